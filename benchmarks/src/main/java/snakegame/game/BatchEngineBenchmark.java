@@ -0,0 +1,64 @@
+package snakegame.game;
+
+import org.openjdk.jmh.annotations.*;
+import snakegame.sim.BatchEngine;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 판을 한 틱 진행하는 비용: GameEngine 객체 배열과 BatchEngine 비교.
+ * 모든 판이 2x2 칸을 맴돌게 해서 죽지 않게 하고, 판 수(작업 집합 크기)에 따른 차이를 본다.
+ * 결과는 판 하나의 한 틱이 아니라 전체 판 한 틱의 시간이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchEngineBenchmark {
+    private static final String LOOP = "DLUR"; // 길이 3인 뱀이 2x2 칸을 계속 도는 입력
+
+    @Param({"64", "1024", "16384"})
+    public int games;
+
+    private GameEngine[] engines;
+    private BatchEngine batch;
+    private char[] directions;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameSettings settings = new GameSettings()
+                .setGridSize(15)
+                .setAppleCount(0)
+                .setBombEnabled(false)
+                .setGameTime(0);
+        long[] seeds = new long[games];
+        engines = new GameEngine[games];
+        for (int i = 0; i < games; i++) {
+            seeds[i] = i;
+            engines[i] = new GameEngine(settings, i);
+        }
+        batch = new BatchEngine(settings, seeds);
+        directions = new char[games];
+    }
+
+    @Benchmark
+    public int engines() {
+        char direction = LOOP.charAt(tick++ & 3);
+        int running = 0;
+        for (GameEngine engine : engines) {
+            engine.step(direction);
+            if (engine.isRunning()) running++;
+        }
+        return running;
+    }
+
+    @Benchmark
+    public int batch() {
+        Arrays.fill(directions, LOOP.charAt(tick++ & 3));
+        return batch.step(directions);
+    }
+}
@@ -0,0 +1,80 @@
+package snakegame.game;
+
+/**
+ * 벤치마크용 판 상태 생성.
+ * 짝수 크기 격자의 해밀턴 순환(맨 윗줄은 오른쪽, 나머지 열은 위아래로 지그재그)을 따라
+ * 원하는 길이의 뱀을 바로 배치하고, 그 순환을 따라가면 뱀이 죽지 않고 계속 움직인다.
+ */
+final class BoardFixtures {
+    private BoardFixtures() {
+    }
+
+    // 칸별로 순환을 따라 다음 칸으로 가는 방향
+    static char[] cycleDirections(int gridSize) {
+        if (gridSize % 2 != 0) {
+            throw new IllegalArgumentException("격자 크기는 짝수여야 합니다: " + gridSize);
+        }
+        char[] directions = new char[gridSize * gridSize];
+        for (int y = 0; y < gridSize; y++) {
+            for (int x = 0; x < gridSize; x++) {
+                char d;
+                if (y == 0) {
+                    d = x == gridSize - 1 ? 'D' : 'R';
+                } else if (x == 0) {
+                    d = 'U';
+                } else if (x % 2 == 1) {
+                    d = y == gridSize - 1 ? 'L' : 'D';
+                } else {
+                    d = y == 1 ? 'L' : 'U';
+                }
+                directions[y * gridSize + x] = d;
+            }
+        }
+        return directions;
+    }
+
+    // (0, 0)에서 시작해 순환을 따라간 칸 순서
+    static int[] cycleOrder(int gridSize, char[] directions) {
+        int[] order = new int[gridSize * gridSize];
+        int cell = 0;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = cell;
+            cell = next(cell, directions[cell], gridSize);
+        }
+        return order;
+    }
+
+    static int next(int cell, char direction, int gridSize) {
+        switch (direction) {
+            case 'U': return cell - gridSize;
+            case 'D': return cell + gridSize;
+            case 'L': return cell - 1;
+            default: return cell + 1;
+        }
+    }
+
+    // 판 크기에 맞게 줄인 뱀 길이 (사과와 폭탄 자리를 남김)
+    static int clampLength(int gridSize, int length) {
+        return Math.max(GameEngine.INITIAL_LENGTH, Math.min(length, gridSize * gridSize - 8));
+    }
+
+    /**
+     * 순환 위에 length 칸짜리 뱀이 놓인 엔진 (제한 시간 없음)
+     */
+    static GameEngine engine(int gridSize, int length, int appleCount, boolean bomb, long seed) {
+        GameSettings settings = new GameSettings()
+                .setGridSize(gridSize)
+                .setAppleCount(appleCount)
+                .setBombEnabled(bomb)
+                .setGameTime(0);
+        GameEngine engine = new GameEngine(settings, seed);
+        layout(engine, gridSize, clampLength(gridSize, length));
+        return engine;
+    }
+
+    static void layout(GameEngine engine, int gridSize, int length) {
+        char[] directions = cycleDirections(gridSize);
+        int[] order = cycleOrder(gridSize, directions);
+        engine.layoutSnake(order, length, directions[order[length - 2]]);
+    }
+}
@@ -0,0 +1,37 @@
+package snakegame.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 틱(이동 + 충돌 검사) 비용. 뱀은 해밀턴 순환을 따라 움직이므로 죽지 않는다.
+ * 사과가 없어서 길이가 변하지 않으며, 틱 비용이 판 크기와 뱀 길이에 무관한지 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineTickBenchmark {
+    @Param({"16", "128", "1024"})
+    public int gridSize;
+
+    @Param({"3", "256", "65536"})
+    public int snakeLength;
+
+    private GameEngine engine;
+    private char[] directions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BoardFixtures.engine(gridSize, snakeLength, 0, false, 42);
+        directions = BoardFixtures.cycleDirections(gridSize);
+    }
+
+    @Benchmark
+    public StepResult step() {
+        return engine.step(directions[engine.getHeadCell()]);
+    }
+}
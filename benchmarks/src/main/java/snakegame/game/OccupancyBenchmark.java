@@ -0,0 +1,48 @@
+package snakegame.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * isPositionOccupied() 한 번의 비용 (무작위 칸 조회)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OccupancyBenchmark {
+    private static final int PROBES = 1024;
+
+    @Param({"16", "128", "1024"})
+    public int gridSize;
+
+    @Param({"3", "256", "65536"})
+    public int snakeLength;
+
+    private GameEngine engine;
+    private int[] xs;
+    private int[] ys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BoardFixtures.engine(gridSize, snakeLength, 3, true, 42);
+        Random random = new Random(7);
+        xs = new int[PROBES];
+        ys = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            xs[i] = random.nextInt(gridSize);
+            ys[i] = random.nextInt(gridSize);
+        }
+    }
+
+    @Benchmark
+    public boolean isPositionOccupied() {
+        int i = next++ & (PROBES - 1);
+        return engine.isPositionOccupied(xs[i], ys[i]);
+    }
+}
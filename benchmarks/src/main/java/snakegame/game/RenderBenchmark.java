@@ -0,0 +1,52 @@
+package snakegame.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화면 밖 BufferedImage에 한 프레임 전체를 그리는 비용.
+ * 뷰포트는 기본값(15x15칸)이므로 판이 커져도 그리는 칸 수는 같아야 한다.
+ * 실행 시 -Djava.awt.headless=true 필요.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderBenchmark {
+    @Param({"16", "128", "1024"})
+    public int gridSize;
+
+    @Param({"3", "256", "65536"})
+    public int snakeLength;
+
+    private SnakeGame game;
+    private BufferedImage frame;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameSettings settings = new GameSettings().setGridSize(gridSize).setGameTime(0);
+        GameEngine engine = BoardFixtures.engine(gridSize, snakeLength, 3, true, 42);
+        game = new SnakeGame(settings, engine);
+        Dimension size = game.getPreferredSize();
+        frame = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_RGB);
+        graphics = frame.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage drawFrame() {
+        game.draw(graphics);
+        return frame;
+    }
+}
@@ -0,0 +1,51 @@
+package snakegame.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판이 채워진 정도에 따른 사과/폭탄 생성 비용.
+ * freeCellSpawn은 엔진의 moveBomb() (빈 칸 목록에서 바로 선택, 채움 비율은 그대로 유지),
+ * rejectionSpawn은 예전 방식(빈 칸이 나올 때까지 무작위 재시도)으로 비교용이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpawnBenchmark {
+    @Param({"16", "128", "1024"})
+    public int gridSize;
+
+    @Param({"0.1", "0.5", "0.9", "0.99"})
+    public double fillRatio;
+
+    private GameEngine engine;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int length = (int) (gridSize * gridSize * fillRatio);
+        engine = BoardFixtures.engine(gridSize, length, 1, true, 42);
+        random = new Random(7);
+    }
+
+    @Benchmark
+    public int freeCellSpawn() {
+        engine.moveBomb();
+        return engine.getBombCell();
+    }
+
+    @Benchmark
+    public int rejectionSpawn() {
+        int x, y;
+        do {
+            x = random.nextInt(gridSize);
+            y = random.nextInt(gridSize);
+        } while (engine.isPositionOccupied(x, y));
+        return y * gridSize + x;
+    }
+}
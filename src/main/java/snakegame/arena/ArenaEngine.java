@@ -0,0 +1,447 @@
+package snakegame.arena;
+
+import snakegame.game.FreeCells;
+import snakegame.game.GameEngine;
+import snakegame.game.GameRandom;
+import snakegame.game.GameSettings;
+import snakegame.game.SnakeBody;
+import snakegame.game.StepResult;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 큰 판 하나에서 뱀 여러 마리가 사과와 폭탄을 같이 쓰는 아레나 규칙 엔진.
+ *
+ * 한 틱은 세 단계로 진행한다.
+ *  1. 이동: 뱀마다 다음 머리 칸과 사과를 먹는지 정하고, 칸별 도착 수를 센다.
+ *  2. 판정: 벽, 폭탄, 몸통(이번 틱에 빠지는 꼬리는 제외), 같은 칸에 둘 이상 도착(머리끼리 충돌)이면 죽음.
+ *     머리끼리 부딪히면 모두 죽고, 죽는 뱀의 몸도 이번 틱에는 아직 판에 있는 것으로 본다.
+ *  3. 적용: 죽은 뱀 치우기, 꼬리 빼기, 머리 넣기, 새 사과와 폭탄 이동을 뱀 번호 순서로 한 스레드에서.
+ * 1, 2단계는 틱 시작 시점의 판만 읽고 뱀별로 자기 칸에만 쓰므로 머리 위치의 가로 띠(행 범위)별로 나눠
+ * 여러 코어에서 돌리고, 난수를 쓰는 3단계는 순서가 고정되어 있어 스레드 수와 상관없이 결과가 같다.
+ */
+public class ArenaEngine {
+    private static final int ROWS_PER_BAND = 16;  // 한 작업이 맡는 가로 띠 높이
+    private static final int BANDS_PER_TASK = 2;  // 더 나누지 않고 한 작업이 직접 처리하는 띠 수
+    private static final int PARALLEL_THRESHOLD = 512; // 살아 있는 뱀이 이보다 적으면 나누는 비용이 더 큼
+
+    private final int columns;
+    private final int rows;
+    private final GameRandom random;
+    private final byte[] board;  // 칸 상태 (GameEngine과 같은 값)
+    private final int[] owner;   // 뱀 칸의 주인 번호, 그 밖의 칸은 -1
+    private final FreeCells freeCells;
+
+    private final int snakeCount;
+    private final SnakeBody[] bodies;
+    private final char[] heading;   // 마지막으로 움직인 방향
+    private final char[] next;      // 다음 틱에 갈 방향
+    private final boolean[] alive;
+    private final int[] scores;
+    private final StepResult[] results; // 마지막 틱 결과, 죽은 뱀은 죽은 이유
+
+    // 틱 진행용 작업 공간
+    private final int[] targets;    // 다음 머리 칸, 벽 밖이면 -1
+    private final boolean[] growing;
+    private final AtomicIntegerArray arrivals; // 칸별 이번 틱 도착 수
+    private final int bandCount;
+    private final int[] bandStart;  // 띠별 order 구간 시작
+    private final int[] order;      // 살아 있는 뱀을 머리가 있는 띠 순서로
+
+    private final int[] appleCells;
+    private int appleCellCount = 0;
+    private final int[] bombCells;  // 없으면 -1
+    private int nextBomb = 0;       // 다음에 옮길 폭탄
+
+    private int aliveCount;
+    private long tickCount = 0;
+    private ForkJoinPool pool;      // null이면 호출한 스레드에서 모두 처리
+
+    /**
+     * 가로, 세로는 settings를 따르고 사과, 폭탄 수는 따로 받는다.
+     * 뱀은 두 행 간격으로 길이 3씩 오른쪽을 향해 늘어놓으며, 자리가 모자라면 IllegalArgumentException.
+     */
+    public ArenaEngine(GameSettings settings, int snakeCount, int appleCount, int bombCount, long seed) {
+        this.columns = settings.getColumns();
+        this.rows = settings.getRows();
+        this.snakeCount = snakeCount;
+        int slotsPerRow = columns / (GameEngine.INITIAL_LENGTH + 2);
+        if (slotsPerRow == 0 || 2 * ((snakeCount - 1) / slotsPerRow) >= rows) {
+            throw new IllegalArgumentException("판이 작아 뱀 " + snakeCount + "마리를 놓을 수 없음");
+        }
+
+        random = new GameRandom(seed);
+        board = new byte[columns * rows];
+        owner = new int[columns * rows];
+        Arrays.fill(owner, -1);
+        freeCells = new FreeCells(columns * rows);
+
+        bodies = new SnakeBody[snakeCount];
+        heading = new char[snakeCount];
+        next = new char[snakeCount];
+        alive = new boolean[snakeCount];
+        scores = new int[snakeCount];
+        results = new StepResult[snakeCount];
+        targets = new int[snakeCount];
+        growing = new boolean[snakeCount];
+        arrivals = new AtomicIntegerArray(columns * rows);
+        bandCount = (rows + ROWS_PER_BAND - 1) / ROWS_PER_BAND;
+        bandStart = new int[bandCount + 1];
+        order = new int[snakeCount];
+
+        for (int i = 0; i < snakeCount; i++) {
+            int y = 2 * (i / slotsPerRow);
+            int x = (i % slotsPerRow) * (GameEngine.INITIAL_LENGTH + 2);
+            bodies[i] = new SnakeBody(16);
+            for (int k = 0; k < GameEngine.INITIAL_LENGTH; k++) {
+                int cell = y * columns + x + k;
+                bodies[i].addHead(cell);
+                occupy(cell, GameEngine.SNAKE, i);
+            }
+            heading[i] = 'R';
+            next[i] = 'R';
+            alive[i] = true;
+            results[i] = StepResult.MOVED;
+        }
+        aliveCount = snakeCount;
+
+        appleCells = new int[appleCount];
+        for (int i = 0; i < appleCount; i++) {
+            if (!newApple()) break;
+        }
+        bombCells = new int[bombCount];
+        Arrays.fill(bombCells, -1);
+        for (int i = 0; i < bombCount; i++) {
+            bombCells[i] = newBomb();
+        }
+    }
+
+    // 1, 2단계를 나눠 돌릴 풀 (null이면 한 스레드에서)
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // 뱀 i의 다음 방향, 지금 움직이는 방향의 반대는 무시
+    public void setDirection(int i, char direction) {
+        if (alive[i] && !GameEngine.isReverse(direction, heading[i])) {
+            next[i] = direction;
+        }
+    }
+
+    /**
+     * 살아 있는 뱀 모두를 한 틱 진행하고 남은 뱀 수를 돌려줌.
+     * 뱀별 결과는 getResult()로 본다.
+     */
+    public int step() {
+        if (aliveCount == 0) return 0;
+        tickCount++;
+        sortByBand();
+        runPhase(Phase.MOVE);
+        runPhase(Phase.RESOLVE);
+        apply();
+        return aliveCount;
+    }
+
+    private enum Phase { MOVE, RESOLVE }
+
+    // 살아 있는 뱀을 머리가 있는 띠별로 모음 (계수 정렬, 띠 안에서는 번호 순)
+    private void sortByBand() {
+        Arrays.fill(bandStart, 0);
+        for (int i = 0; i < snakeCount; i++) {
+            if (alive[i]) {
+                bandStart[band(i) + 1]++;
+            }
+        }
+        for (int b = 0; b < bandCount; b++) {
+            bandStart[b + 1] += bandStart[b];
+        }
+        int[] fill = Arrays.copyOf(bandStart, bandCount);
+        for (int i = 0; i < snakeCount; i++) {
+            if (alive[i]) {
+                order[fill[band(i)]++] = i;
+            }
+        }
+    }
+
+    private int band(int i) {
+        return bodies[i].head() / columns / ROWS_PER_BAND;
+    }
+
+    private void runPhase(Phase phase) {
+        if (pool == null || aliveCount < PARALLEL_THRESHOLD) {
+            runBands(phase, 0, bandCount);
+        } else {
+            pool.invoke(new Bands(phase, 0, bandCount));
+        }
+    }
+
+    private void runBands(Phase phase, int fromBand, int toBand) {
+        int end = bandStart[toBand];
+        for (int k = bandStart[fromBand]; k < end; k++) {
+            if (phase == Phase.MOVE) {
+                move(order[k]);
+            } else {
+                resolve(order[k]);
+            }
+        }
+    }
+
+    // [from, to) 띠를 처리하는 작업
+    private class Bands extends RecursiveAction {
+        private final Phase phase;
+        private final int from;
+        private final int to;
+
+        Bands(Phase phase, int from, int to) {
+            this.phase = phase;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BANDS_PER_TASK) {
+                runBands(phase, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Bands(phase, from, middle), new Bands(phase, middle, to));
+        }
+    }
+
+    // 1단계: 다음 머리 칸을 정하고 도착 수를 셈 (판은 읽기만 함)
+    private void move(int i) {
+        heading[i] = next[i];
+        int head = bodies[i].head();
+        int x = head % columns;
+        int y = head / columns;
+        switch (heading[i]) {
+            case 'U': y--; break;
+            case 'D': y++; break;
+            case 'L': x--; break;
+            case 'R': x++; break;
+        }
+        if (x < 0 || x >= columns || y < 0 || y >= rows) {
+            targets[i] = -1;
+            growing[i] = false;
+            return;
+        }
+        int target = y * columns + x;
+        targets[i] = target;
+        growing[i] = board[target] == GameEngine.APPLE;
+        arrivals.incrementAndGet(target);
+    }
+
+    // 2단계: 이번 틱 결과 판정 (판과 1단계 결과는 읽기만 함)
+    private void resolve(int i) {
+        int target = targets[i];
+        if (target < 0) {
+            results[i] = StepResult.HIT_WALL;
+        } else if (board[target] == GameEngine.BOMB) {
+            results[i] = StepResult.HIT_BOMB;
+        } else if (arrivals.get(target) > 1) {
+            results[i] = StepResult.HIT_SNAKE;
+        } else if (board[target] == GameEngine.SNAKE && !isLeavingTail(target)) {
+            results[i] = owner[target] == i ? StepResult.HIT_SELF : StepResult.HIT_SNAKE;
+        } else {
+            results[i] = growing[i] ? StepResult.ATE_APPLE : StepResult.MOVED;
+        }
+    }
+
+    // 이번 틱에 비워지는 꼬리 칸인지 (주인이 사과를 먹지 않으면 꼬리가 빠짐, 주인의 생사와는 무관)
+    private boolean isLeavingTail(int cell) {
+        int o = owner[cell];
+        return bodies[o].tail() == cell && !growing[o];
+    }
+
+    // 3단계: 판정 결과를 판에 적용 (뱀 번호 순서, 한 스레드)
+    private void apply() {
+        for (int i = 0; i < snakeCount; i++) {
+            if (!alive[i]) continue;
+            if (targets[i] >= 0) {
+                arrivals.set(targets[i], 0);
+            }
+            if (results[i].isFatal()) {
+                // 죽은 뱀은 판에서 치움
+                alive[i] = false;
+                aliveCount--;
+                SnakeBody body = bodies[i];
+                for (int k = 0; k < body.length(); k++) {
+                    release(body.get(k));
+                }
+                body.clear();
+            } else if (!growing[i]) {
+                release(bodies[i].removeTail());
+            }
+        }
+
+        int eaten = 0;
+        for (int i = 0; i < snakeCount; i++) {
+            if (!alive[i]) continue;
+            int head = targets[i];
+            if (growing[i]) {
+                removeApple(head);
+                scores[i]++;
+                eaten++;
+            }
+            bodies[i].addHead(head);
+            occupy(head, GameEngine.SNAKE, i);
+        }
+
+        // 먹힌 사과만큼 새 사과를 놓고 폭탄을 하나씩 돌아가며 옮김
+        for (int k = 0; k < eaten; k++) {
+            newApple();
+            if (bombCells.length > 0) {
+                int b = nextBomb;
+                nextBomb = (nextBomb + 1) % bombCells.length;
+                if (bombCells[b] >= 0) {
+                    release(bombCells[b]); // 현재 자리를 비워야 같은 칸이 다시 뽑힐 수 있음
+                }
+                bombCells[b] = newBomb();
+            }
+        }
+    }
+
+    // 빈 칸에 사과 생성, 빈 칸이 없으면 false
+    private boolean newApple() {
+        if (appleCellCount == appleCells.length) return false;
+        int cell = freeCells.pick(random);
+        if (cell < 0) return false;
+        appleCells[appleCellCount++] = cell;
+        occupy(cell, GameEngine.APPLE, -1);
+        return true;
+    }
+
+    // 빈 칸에 폭탄 생성, 놓은 칸 (빈 칸이 없으면 -1)
+    private int newBomb() {
+        int cell = freeCells.pick(random);
+        if (cell >= 0) {
+            occupy(cell, GameEngine.BOMB, -1);
+        }
+        return cell;
+    }
+
+    // 먹은 사과를 목록에서 제거 (마지막 원소와 자리 바꿈)
+    private void removeApple(int cell) {
+        for (int i = 0; i < appleCellCount; i++) {
+            if (appleCells[i] == cell) {
+                appleCells[i] = appleCells[--appleCellCount];
+                return;
+            }
+        }
+    }
+
+    private void occupy(int cell, byte kind, int snake) {
+        board[cell] = kind;
+        owner[cell] = snake;
+        freeCells.remove(cell);
+    }
+
+    private void release(int cell) {
+        board[cell] = GameEngine.EMPTY;
+        owner[cell] = -1;
+        freeCells.add(cell);
+    }
+
+    /**
+     * 판 전체 상태의 체크섬 (뱀, 사과, 폭탄, 점수, 난수 상태).
+     * 스레드 수가 달라도, 리플레이로 다시 돌려도 같은 값이 나와야 한다.
+     */
+    public long checksum() {
+        long h = random.getState() ^ tickCount;
+        for (int i = 0; i < snakeCount; i++) {
+            h = GameRandom.mix(h + (alive[i] ? 1 : 0) + 31L * scores[i] + 961L * heading[i]);
+            for (int k = 0; k < bodies[i].length(); k++) {
+                h = GameRandom.mix(h + bodies[i].get(k));
+            }
+        }
+        for (int i = 0; i < appleCellCount; i++) {
+            h = GameRandom.mix(h + appleCells[i]);
+        }
+        for (int cell : bombCells) {
+            h = GameRandom.mix(h + cell);
+        }
+        return h;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    // 칸 상태 (EMPTY, SNAKE, APPLE, BOMB)
+    public byte getCell(int cell) {
+        return board[cell];
+    }
+
+    // 뱀 칸의 주인 번호, 뱀이 없는 칸은 -1
+    public int getOwner(int cell) {
+        return owner[cell];
+    }
+
+    public int getSnakeCount() {
+        return snakeCount;
+    }
+
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    public boolean isAlive(int i) {
+        return alive[i];
+    }
+
+    public int getScore(int i) {
+        return scores[i];
+    }
+
+    public int getLength(int i) {
+        return bodies[i].length();
+    }
+
+    // 뱀 i의 k번째 몸통 칸 (0 = 꼬리)
+    public int getSnakeCell(int i, int k) {
+        return bodies[i].get(k);
+    }
+
+    // 살아 있는 뱀만
+    public int getHeadCell(int i) {
+        return bodies[i].head();
+    }
+
+    public char getDirection(int i) {
+        return heading[i];
+    }
+
+    // 뱀 i의 마지막 틱 결과, 죽은 뱀은 죽은 이유
+    public StepResult getResult(int i) {
+        return results[i];
+    }
+
+    public int getAppleCellCount() {
+        return appleCellCount;
+    }
+
+    public int getAppleCell(int i) {
+        return appleCells[i];
+    }
+
+    public int getBombCount() {
+        return bombCells.length;
+    }
+
+    // 폭탄 칸, 없으면 -1
+    public int getBombCell(int i) {
+        return bombCells[i];
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
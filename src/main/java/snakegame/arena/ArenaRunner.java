@@ -0,0 +1,110 @@
+package snakegame.arena;
+
+import snakegame.game.GameEngine;
+import snakegame.game.GameSettings;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 창 없이 아레나를 돌려 보는 실행기.
+ * 모든 뱀을 간단한 정책(가장 가까운 사과 쪽의 안전한 칸)으로 움직이며, 같은 시드로 한 스레드와
+ * 여러 스레드에서 각각 돌려 틱마다 체크섬이 같은지 확인한다.
+ *
+ * 사용법: java -Dsnake.columns=400 -Dsnake.rows=400 -Dsnake.bomb=true snakegame.arena.ArenaRunner [뱀 수] [틱 수] [스레드 수] [시드]
+ */
+public class ArenaRunner {
+    private static final String DIRECTIONS = "UDLR";
+
+    // 뱀 i의 다음 방향: 바로 죽지 않는 칸 중 가장 가까운 사과에 가까워지는 쪽
+    static char choose(ArenaEngine arena, int i) {
+        int columns = arena.getColumns();
+        int head = arena.getHeadCell(i);
+        int hx = head % columns;
+        int hy = head / columns;
+
+        char best = arena.getDirection(i);
+        int bestDistance = Integer.MAX_VALUE;
+        for (int d = 0; d < DIRECTIONS.length(); d++) {
+            char direction = DIRECTIONS.charAt(d);
+            if (GameEngine.isReverse(direction, arena.getDirection(i))) continue;
+            int x = hx + (direction == 'L' ? -1 : direction == 'R' ? 1 : 0);
+            int y = hy + (direction == 'U' ? -1 : direction == 'D' ? 1 : 0);
+            if (x < 0 || x >= columns || y < 0 || y >= arena.getRows()) continue;
+            byte cell = arena.getCell(y * columns + x);
+            if (cell == GameEngine.SNAKE || cell == GameEngine.BOMB) continue;
+
+            int distance = Integer.MAX_VALUE - 1;
+            for (int a = 0; a < arena.getAppleCellCount(); a++) {
+                int apple = arena.getAppleCell(a);
+                distance = Math.min(distance, Math.abs(apple % columns - x) + Math.abs(apple / columns - y));
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    static void steer(ArenaEngine arena) {
+        for (int i = 0; i < arena.getSnakeCount(); i++) {
+            if (arena.isAlive(i)) {
+                arena.setDirection(i, choose(arena, i));
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        int snakes = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        // 아레나는 기본 판이 크고 사과도 뱀 수만큼 둠
+        GameSettings settings = GameSettings.fromSystemProperties()
+                .setColumns(Integer.getInteger("snake.columns", 400))
+                .setRows(Integer.getInteger("snake.rows", 400));
+        int apples = Integer.getInteger("snake.appleCount", snakes);
+        int bombs = settings.isBombEnabled() ? Math.max(1, snakes / 10) : 0;
+
+        ArenaEngine sequential = new ArenaEngine(settings, snakes, apples, bombs, seed);
+        ArenaEngine parallel = new ArenaEngine(settings, snakes, apples, bombs, seed);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        parallel.setPool(pool);
+        try {
+            long sequentialNanos = 0;
+            long parallelNanos = 0;
+            for (int t = 0; t < ticks && sequential.getAliveCount() > 0; t++) {
+                steer(sequential);
+                steer(parallel);
+
+                long start = System.nanoTime();
+                sequential.step();
+                long middle = System.nanoTime();
+                parallel.step();
+                long end = System.nanoTime();
+                sequentialNanos += middle - start;
+                parallelNanos += end - middle;
+
+                if (sequential.checksum() != parallel.checksum()) {
+                    System.out.println("틱 " + sequential.getTickCount() + "에서 결과가 다름");
+                    return;
+                }
+            }
+
+            int best = 0;
+            for (int i = 1; i < snakes; i++) {
+                if (sequential.getScore(i) > sequential.getScore(best)) best = i;
+            }
+            long steps = Math.max(1, sequential.getTickCount());
+            System.out.printf("격자 %dx%d, 뱀 %d, 사과 %d, 폭탄 %d, 스레드 %d, 시드 %d%n", settings.getColumns(),
+                    settings.getRows(), snakes, apples, bombs, threads, seed);
+            System.out.printf("틱 %d, 남은 뱀 %d, 최고 점수 %d (뱀 %d), 체크섬 일치%n", sequential.getTickCount(),
+                    sequential.getAliveCount(), sequential.getScore(best), best);
+            System.out.printf("틱당 한 스레드 %.1fus, %d 스레드 %.1fus%n",
+                    sequentialNanos / 1e3 / steps, threads, parallelNanos / 1e3 / steps);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
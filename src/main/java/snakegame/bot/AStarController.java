@@ -0,0 +1,73 @@
+package snakegame.bot;
+
+import snakegame.game.GameEngine;
+
+/**
+ * 사과까지 A*로 경로를 찾되 폭탄을 피하는 정책.
+ * 폭탄 칸은 지나갈 수 없고, 사과를 먹을 때마다 폭탄이 옮겨 가므로 폭탄과 맞닿은 칸에도 추가 비용을 준다.
+ * 휴리스틱은 가장 가까운 사과까지의 맨해튼 거리 (모든 칸 비용이 1 이상이라 최단 경로가 보장됨).
+ */
+public class AStarController implements SnakeController {
+    private static final int BOMB_NEIGHBOR_COST = 4; // 폭탄 옆 칸의 추가 비용
+
+    private final GridSearch search = new GridSearch();
+
+    @Override
+    public char nextDirection(GameEngine engine) {
+        search.ensureCapacity(engine.getColumns() * engine.getRows());
+        int head = engine.getHeadCell();
+        int apple = findPath(engine, head);
+        if (apple < 0) {
+            return search.survivalMove(engine);
+        }
+        int next = search.firstStep(head, apple);
+        if (search.floodFill(engine, next, engine.getLength() + 1) <= engine.getLength()) {
+            return search.survivalMove(engine);
+        }
+        return GridSearch.direction(engine, head, next);
+    }
+
+    // 사과까지 최소 비용 경로를 찾고 도착한 사과 칸을 돌려줌, 없으면 -1
+    private int findPath(GameEngine engine, int start) {
+        if (engine.getAppleCellCount() == 0) return -1;
+        GridSearch s = search;
+        s.begin();
+        s.heapSize = 0;
+        int tail = engine.getSnakeCell(0);
+
+        s.visit(start, -1);
+        s.cost[start] = 0;
+        s.heapPush(start, heuristic(engine, start));
+        while (s.heapSize > 0) {
+            int cell = s.heapPop();
+            if (cell != start && engine.getCell(cell) == GameEngine.APPLE) {
+                return cell;
+            }
+            for (char direction : GreedyController.DIRECTIONS) {
+                int next = GreedyController.neighbor(engine, cell, direction);
+                if (next < 0 || !GridSearch.passable(engine, next, tail)) continue;
+
+                int cost = s.cost[cell] + 1 + (nearBomb(engine, next) ? BOMB_NEIGHBOR_COST : 0);
+                if (!s.visited(next) || cost < s.cost[next]) {
+                    s.visit(next, cell);
+                    s.cost[next] = cost;
+                    s.heapPush(next, cost + heuristic(engine, next)); // 이전 항목은 남겨 두고 새로 넣음
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int heuristic(GameEngine engine, int cell) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < engine.getAppleCellCount(); i++) {
+            best = Math.min(best, GreedyController.distance(engine, cell, engine.getAppleCell(i)));
+        }
+        return best;
+    }
+
+    private static boolean nearBomb(GameEngine engine, int cell) {
+        int bomb = engine.getBombCell();
+        return bomb >= 0 && GreedyController.distance(engine, cell, bomb) == 1;
+    }
+}
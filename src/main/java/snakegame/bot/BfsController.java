@@ -0,0 +1,26 @@
+package snakegame.bot;
+
+import snakegame.game.GameEngine;
+
+/**
+ * 가장 가까운 사과까지 BFS 최단 경로를 따라가는 정책.
+ * 경로가 없거나 첫 칸으로 들어가면 몸 길이만큼의 공간도 남지 않는 경우에는 생존 이동을 한다.
+ */
+public class BfsController implements SnakeController {
+    private final GridSearch search = new GridSearch();
+
+    @Override
+    public char nextDirection(GameEngine engine) {
+        search.ensureCapacity(engine.getColumns() * engine.getRows());
+        int head = engine.getHeadCell();
+        int apple = search.bfsToApple(engine, head);
+        if (apple < 0) {
+            return search.survivalMove(engine);
+        }
+        int next = search.firstStep(head, apple);
+        if (search.floodFill(engine, next, engine.getLength() + 1) <= engine.getLength()) {
+            return search.survivalMove(engine);
+        }
+        return GridSearch.direction(engine, head, next);
+    }
+}
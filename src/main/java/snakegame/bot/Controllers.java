@@ -0,0 +1,25 @@
+package snakegame.bot;
+
+import java.util.function.Supplier;
+
+/**
+ * 이름으로 정책을 고르는 도우미 (-Dsnake.bot=bfs 등).
+ */
+public final class Controllers {
+    private Controllers() {
+    }
+
+    /**
+     * 이름에 맞는 정책 생성기, 알 수 없는 이름이면 IllegalArgumentException.
+     * greedy, bfs, astar, hamiltonian
+     */
+    public static Supplier<SnakeController> byName(String name) {
+        switch (name.toLowerCase()) {
+            case "greedy": return GreedyController::new;
+            case "bfs": return BfsController::new;
+            case "astar": return AStarController::new;
+            case "hamiltonian": return HamiltonianController::new;
+            default: throw new IllegalArgumentException("알 수 없는 정책: " + name);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package snakegame.bot;
+
+import snakegame.game.GameEngine;
+
+/**
+ * 가장 가까운 사과 쪽으로 바로 다가가는 단순한 정책.
+ * 다음 칸이 벽, 폭탄, 몸통이면 그 방향은 고르지 않지만 더 멀리 내다보지는 않는다.
+ */
+public class GreedyController implements SnakeController {
+    static final char[] DIRECTIONS = {'U', 'D', 'L', 'R'};
+
+    @Override
+    public char nextDirection(GameEngine engine) {
+        int head = engine.getHeadCell();
+        int target = nearestApple(engine, head);
+        char current = engine.getDirection();
+
+        char best = current;
+        int bestDistance = Integer.MAX_VALUE;
+        for (char direction : DIRECTIONS) {
+            if (GameEngine.isReverse(direction, current)) continue;
+            int next = neighbor(engine, head, direction);
+            if (next < 0 || !isSafe(engine, next)) continue;
+
+            int distance = target < 0 ? 0 : distance(engine, next, target);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    // 이웃 칸 번호, 판 밖이면 -1
+    static int neighbor(GameEngine engine, int cell, char direction) {
+        int columns = engine.getColumns();
+        int x = cell % columns;
+        int y = cell / columns;
+        switch (direction) {
+            case 'U': return y > 0 ? cell - columns : -1;
+            case 'D': return y < engine.getRows() - 1 ? cell + columns : -1;
+            case 'L': return x > 0 ? cell - 1 : -1;
+            default:  return x < columns - 1 ? cell + 1 : -1;
+        }
+    }
+
+    // 다음 틱에 들어가도 죽지 않는 칸인지 (꼬리 칸은 이번 틱에 비워짐)
+    static boolean isSafe(GameEngine engine, int cell) {
+        byte state = engine.getCell(cell);
+        if (state == GameEngine.BOMB) return false;
+        return state != GameEngine.SNAKE || cell == engine.getSnakeCell(0);
+    }
+
+    static int distance(GameEngine engine, int a, int b) {
+        return Math.abs(engine.cellX(a) - engine.cellX(b)) + Math.abs(engine.cellY(a) - engine.cellY(b));
+    }
+
+    private static int nearestApple(GameEngine engine, int head) {
+        int nearest = -1;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < engine.getAppleCellCount(); i++) {
+            int apple = engine.getAppleCell(i);
+            int d = distance(engine, head, apple);
+            if (d < nearestDistance) {
+                nearestDistance = d;
+                nearest = apple;
+            }
+        }
+        return nearest;
+    }
+}
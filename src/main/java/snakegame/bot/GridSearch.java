@@ -0,0 +1,182 @@
+package snakegame.bot;
+
+import snakegame.game.GameEngine;
+
+import java.util.Arrays;
+
+/**
+ * 정책들이 함께 쓰는 격자 탐색 작업 공간.
+ * 방문 표시, 부모, 비용, 큐와 힙을 모두 칸 수 크기의 int 배열로 한 번만 만들어 두고,
+ * 방문 여부는 탐색마다 올리는 세대 번호로 구분하므로 매 결정마다 배열을 비우거나 새로 만들지 않는다.
+ */
+final class GridSearch {
+    int[] stamp = new int[0];  // 칸을 마지막으로 방문한 탐색의 세대 번호
+    int[] parent = new int[0]; // 경로 복원용 이전 칸
+    int[] cost = new int[0];   // 시작 칸부터의 비용 (A*)
+    int[] queue = new int[0];  // BFS 큐, 또는 힙의 칸
+    int[] heapKey = new int[0]; // 힙의 우선순위
+    private int generation = 0;
+
+    // 격자 크기에 맞게 배열 준비 (격자가 바뀔 때만 새로 만듦)
+    void ensureCapacity(int cells) {
+        if (stamp.length == cells) return;
+        stamp = new int[cells];
+        parent = new int[cells];
+        cost = new int[cells];
+        queue = new int[cells * 4]; // A*는 같은 칸을 여러 번 넣을 수 있음 (간선 수 이하)
+        heapKey = new int[cells * 4];
+        generation = 0;
+    }
+
+    // 새 탐색 시작, 이전 탐색의 방문 표시는 모두 무효가 됨
+    int begin() {
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+
+    boolean visited(int cell) {
+        return stamp[cell] == generation;
+    }
+
+    void visit(int cell, int from) {
+        stamp[cell] = generation;
+        parent[cell] = from;
+    }
+
+    /**
+     * 다음 틱 이후에 지나갈 수 있는 칸인지 (빈 칸, 사과, 이번 틱에 비워지는 꼬리).
+     * 몸통은 탐색 깊이와 상관없이 막힌 것으로 보는 보수적인 판단이다.
+     */
+    static boolean passable(GameEngine engine, int cell, int tail) {
+        byte state = engine.getCell(cell);
+        return state == GameEngine.EMPTY || state == GameEngine.APPLE || cell == tail;
+    }
+
+    /**
+     * start에서 가장 가까운 사과까지 BFS, 찾으면 사과 칸, 없으면 -1.
+     * 경로는 parent를 따라 거슬러 올라가 복원한다.
+     */
+    int bfsToApple(GameEngine engine, int start) {
+        begin();
+        int tail = engine.getSnakeCell(0);
+        int head = 0;
+        int size = 0;
+        queue[size++] = start;
+        visit(start, -1);
+        while (head < size) {
+            int cell = queue[head++];
+            if (cell != start && engine.getCell(cell) == GameEngine.APPLE) {
+                return cell;
+            }
+            for (char direction : GreedyController.DIRECTIONS) {
+                int next = GreedyController.neighbor(engine, cell, direction);
+                if (next >= 0 && !visited(next) && passable(engine, next, tail)) {
+                    visit(next, cell);
+                    queue[size++] = next;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // start에서 갈 수 있는 칸 수 (limit개를 넘으면 중단)
+    int floodFill(GameEngine engine, int start, int limit) {
+        begin();
+        int tail = engine.getSnakeCell(0);
+        int head = 0;
+        int size = 0;
+        queue[size++] = start;
+        visit(start, -1);
+        while (head < size && size < limit) {
+            int cell = queue[head++];
+            for (char direction : GreedyController.DIRECTIONS) {
+                int next = GreedyController.neighbor(engine, cell, direction);
+                if (next >= 0 && !visited(next) && passable(engine, next, tail)) {
+                    visit(next, cell);
+                    queue[size++] = next;
+                }
+            }
+        }
+        return size;
+    }
+
+    // target에서 parent를 거슬러 올라가 start 바로 다음 칸을 찾음
+    int firstStep(int start, int target) {
+        int cell = target;
+        while (parent[cell] != start) {
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    /**
+     * 사과로 가는 길이 없거나 위험할 때 쓰는 생존 우선 이동.
+     * 안전한 이웃 중 갈 수 있는 공간이 가장 넓은 쪽을 고른다.
+     */
+    char survivalMove(GameEngine engine) {
+        int head = engine.getHeadCell();
+        char current = engine.getDirection();
+        char best = current;
+        int bestArea = -1;
+        for (char direction : GreedyController.DIRECTIONS) {
+            if (GameEngine.isReverse(direction, current)) continue;
+            int next = GreedyController.neighbor(engine, head, direction);
+            if (next < 0 || !GreedyController.isSafe(engine, next)) continue;
+
+            int area = floodFill(engine, next, engine.getLength() + 1);
+            if (area > bestArea) {
+                bestArea = area;
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    // 이웃한 두 칸 사이의 방향
+    static char direction(GameEngine engine, int from, int to) {
+        int columns = engine.getColumns();
+        if (to == from - columns) return 'U';
+        if (to == from + columns) return 'D';
+        if (to == from - 1) return 'L';
+        return 'R';
+    }
+
+    // 힙 (queue에 칸, heapKey에 우선순위, 작은 값이 먼저)
+    int heapSize;
+
+    void heapPush(int cell, int key) {
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) >>> 1;
+            if (heapKey[up] <= key) break;
+            queue[i] = queue[up];
+            heapKey[i] = heapKey[up];
+            i = up;
+        }
+        queue[i] = cell;
+        heapKey[i] = key;
+    }
+
+    // 우선순위가 가장 작은 칸을 꺼냄
+    int heapPop() {
+        int top = queue[0];
+        int cell = queue[--heapSize];
+        int key = heapKey[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) child++;
+            if (heapKey[child] >= key) break;
+            queue[i] = queue[child];
+            heapKey[i] = heapKey[child];
+            i = child;
+        }
+        queue[i] = cell;
+        heapKey[i] = key;
+        return top;
+    }
+}
@@ -0,0 +1,132 @@
+package snakegame.bot;
+
+import snakegame.game.GameEngine;
+
+/**
+ * 판 전체를 한 번씩 지나는 순환(해밀턴 순환)을 따라가는 정책.
+ *
+ * 순환은 맨 윗줄을 왼쪽에서 오른쪽으로 간 뒤 나머지를 지그재그로 채우고 왼쪽 끝 열로 돌아온다.
+ * 시작 위치의 뱀이 순환 순서대로 놓이므로 순환만 따라가면 폭탄이 없는 한 죽지 않고 판을 채운다.
+ * 뱀이 판의 절반보다 짧을 때는 꼬리를 앞지르지 않는 범위에서 순환을 건너뛰어 사과로 빨리 가고,
+ * 순환 위에서 사과보다 폭탄이 먼저 나오면 같은 조건으로 폭탄을 건너뛴다.
+ * 폭탄이 순환 위에 있고 건너뛸 곳이 없으면 부딪힐 수 있으므로, 절대 죽지 않는 것은 폭탄이 없을 때뿐이다.
+ * 가로, 세로가 모두 홀수인 판에는 해밀턴 순환이 없으므로 A* 정책으로 대신한다.
+ * 게임 시작부터 이 정책으로 움직인다고 가정한다.
+ */
+public class HamiltonianController implements SnakeController {
+    private static final int SAFETY_MARGIN = 3; // 건너뛸 때 꼬리와의 최소 간격 (먹으면서 자라는 몫)
+
+    private int columns = -1;
+    private int rows = -1;
+    private int[] order;      // 순환 위 위치 -> 칸
+    private int[] cycleIndex; // 칸 -> 순환 위 위치, 순환이 없으면 null
+    private final AStarController fallback = new AStarController();
+
+    @Override
+    public char nextDirection(GameEngine engine) {
+        if (engine.getColumns() != columns || engine.getRows() != rows) {
+            columns = engine.getColumns();
+            rows = engine.getRows();
+            cycleIndex = buildCycle(columns, rows);
+        }
+        if (cycleIndex == null) {
+            return fallback.nextDirection(engine);
+        }
+
+        int cells = cycleIndex.length;
+        int head = engine.getHeadCell();
+        int headIndex = cycleIndex[head];
+        int toTail = forward(headIndex, cycleIndex[engine.getSnakeCell(0)], cells);
+        int toApple = cells;
+        for (int i = 0; i < engine.getAppleCellCount(); i++) {
+            toApple = Math.min(toApple, forward(headIndex, cycleIndex[engine.getAppleCell(i)], cells));
+        }
+
+        int bomb = engine.getBombCell();
+        int toBomb = bomb >= 0 ? forward(headIndex, cycleIndex[bomb], cells) : cells;
+        boolean avoidBomb = toBomb < toApple; // 순환을 따라가면 사과보다 폭탄을 먼저 만남
+        boolean shortcuts = engine.getLength() < cells / 2;
+        int limit = toTail - SAFETY_MARGIN;   // 이보다 멀리 건너뛰면 꼬리를 앞지를 수 있음
+
+        char successor = 0;
+        char best = 0;
+        int bestAdvance = 0;
+        char bypass = 0;
+        int bypassAdvance = cells;
+        for (char direction : GreedyController.DIRECTIONS) {
+            int next = GreedyController.neighbor(engine, head, direction);
+            if (next < 0 || !GreedyController.isSafe(engine, next)) continue;
+            int advance = forward(headIndex, cycleIndex[next], cells);
+            if (advance == 1) {
+                successor = direction;
+            }
+            if (advance == 0 || advance >= limit) continue;
+
+            // 폭탄을 넘어가는 가장 짧은 건너뛰기
+            if (avoidBomb && advance > toBomb && advance < bypassAdvance) {
+                bypassAdvance = advance;
+                bypass = direction;
+            }
+            // 사과를 넘지 않는 가장 긴 건너뛰기
+            if (shortcuts && advance <= toApple && advance < toBomb && advance > bestAdvance) {
+                bestAdvance = advance;
+                best = direction;
+            }
+        }
+        if (bypass != 0) return bypass;
+        if (best != 0) return best;
+        if (successor != 0) return successor;
+        // 순환 바로 다음 칸이 폭탄인데 건너뛸 곳이 없으면 순환을 벗어나서라도 살아남음
+        return fallback.nextDirection(engine);
+    }
+
+    // 순환을 따라 a에서 b까지 가는 거리
+    private static int forward(int a, int b, int cells) {
+        int d = b - a;
+        return d < 0 ? d + cells : d;
+    }
+
+    /**
+     * 칸별 순환 위치. 가로가 짝수면 세로 지그재그, 세로가 짝수면 가로 지그재그로 채운다.
+     * 어느 쪽이든 (0, 0)에서 오른쪽으로 출발한다.
+     */
+    private int[] buildCycle(int columns, int rows) {
+        if (columns < 2 || rows < 2 || (columns % 2 != 0 && rows % 2 != 0)) {
+            order = null;
+            return null;
+        }
+        order = new int[columns * rows];
+        int n = 0;
+        for (int x = 0; x < columns; x++) {
+            order[n++] = x; // 맨 윗줄
+        }
+        if (columns % 2 == 0) {
+            // 오른쪽 끝 열부터 1열까지 아래위로 번갈아
+            for (int x = columns - 1; x >= 1; x--) {
+                boolean down = (columns - 1 - x) % 2 == 0;
+                for (int i = 1; i < rows; i++) {
+                    int y = down ? i : rows - i;
+                    order[n++] = y * columns + x;
+                }
+            }
+        } else {
+            // 1행부터 마지막 행까지 1열~오른쪽 끝 사이를 좌우로 번갈아
+            for (int y = 1; y < rows; y++) {
+                boolean left = y % 2 == 1;
+                for (int i = 1; i < columns; i++) {
+                    int x = left ? columns - i : i;
+                    order[n++] = y * columns + x;
+                }
+            }
+        }
+        for (int y = rows - 1; y >= 1; y--) {
+            order[n++] = y * columns; // 왼쪽 끝 열을 올라와 (0, 0)으로
+        }
+
+        int[] index = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            index[order[i]] = i;
+        }
+        return index;
+    }
+}
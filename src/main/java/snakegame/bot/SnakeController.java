@@ -0,0 +1,15 @@
+package snakegame.bot;
+
+import snakegame.game.GameEngine;
+
+/**
+ * 사람 대신 방향을 정하는 정책 (자동 플레이, 대량 시뮬레이션용).
+ * 구현체는 게임 하나에 하나씩 만들어 쓰므로 스레드 안전할 필요가 없다.
+ */
+public interface SnakeController {
+    /**
+     * 다음 틱에 보낼 방향 ('U', 'D', 'L', 'R').
+     * 엔진 상태는 읽기만 하고 step()은 호출하지 않는다.
+     */
+    char nextDirection(GameEngine engine);
+}
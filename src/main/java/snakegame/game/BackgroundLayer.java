@@ -0,0 +1,104 @@
+package snakegame.game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 매 프레임 같은 모양인 배경(체스판, 게임 영역 테두리, 상태창 그라데이션)을
+ * 한 번만 그려 두고 이미지 복사로 재사용하는 캐시.
+ * 크기나 화면(GraphicsConfiguration)이 바뀌거나 invalidate()가 호출될 때만 다시 그린다.
+ */
+public class BackgroundLayer {
+    private static final Color LIGHT_COLOR = new Color(143, 214, 143); // 연두색
+    private static final Color DARK_COLOR = new Color(165, 250, 165);  // 초록색
+    private static final Color BOARD_BORDER_COLOR = new Color(150, 150, 150);
+    private static final Color STATUS_TOP_COLOR = new Color(63, 81, 181);
+    private static final Color STATUS_BOTTOM_COLOR = new Color(125, 100, 237);
+    private static final Color STATUS_BORDER_COLOR = new Color(48, 63, 159);
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(2);
+
+    private final int width;
+    private final int boardHeight;
+    private final int statusHeight;
+    private final int unitSize;
+
+    private GraphicsConfiguration config;
+    private Image statusBar;
+    private final Image[] boards = new Image[2]; // 체스판 홀짝 두 가지 (뷰포트 스크롤 대응)
+
+    public BackgroundLayer(int width, int boardHeight, int statusHeight, int unitSize) {
+        this.width = width;
+        this.boardHeight = boardHeight;
+        this.statusHeight = statusHeight;
+        this.unitSize = unitSize;
+    }
+
+    // 캐시를 버리고 다음 그리기 때 다시 만듦 (테마 변경 등)
+    public void invalidate() {
+        statusBar = null;
+        boards[0] = null;
+        boards[1] = null;
+    }
+
+    public void paintStatusBar(Graphics2D g, GraphicsConfiguration target) {
+        validate(target);
+        if (statusBar == null) {
+            statusBar = createLayer(width, statusHeight);
+            Graphics2D layer = (Graphics2D) statusBar.getGraphics();
+
+            // 상태창 배경 (그라데이션)
+            layer.setPaint(new GradientPaint(0, 0, STATUS_TOP_COLOR, 0, statusHeight, STATUS_BOTTOM_COLOR));
+            layer.fillRect(0, 0, width, statusHeight);
+
+            // 상태창 테두리
+            layer.setColor(STATUS_BORDER_COLOR);
+            layer.setStroke(BORDER_STROKE);
+            layer.drawRect(0, 0, width, statusHeight);
+            layer.dispose();
+        }
+        g.drawImage(statusBar, 0, 0, null);
+    }
+
+    /**
+     * 게임 영역 배경을 그림.
+     * parity는 뷰포트 왼쪽 위 칸의 (열 + 행) % 2 로, 스크롤해도 체스판 무늬가 격자에 고정되게 한다.
+     */
+    public void paintBoard(Graphics2D g, GraphicsConfiguration target, int parity) {
+        validate(target);
+        if (boards[parity] == null) {
+            Image board = createLayer(width, boardHeight);
+            Graphics2D layer = (Graphics2D) board.getGraphics();
+
+            // 체스판 패턴 (짝수+짝수 = 밝은색, 홀수+홀수 = 밝은색)
+            for (int row = 0; row * unitSize < boardHeight; row++) {
+                for (int col = 0; col * unitSize < width; col++) {
+                    layer.setColor((row + col + parity) % 2 == 0 ? LIGHT_COLOR : DARK_COLOR);
+                    layer.fillRect(col * unitSize, row * unitSize, unitSize, unitSize);
+                }
+            }
+
+            // 게임 영역 테두리
+            layer.setColor(BOARD_BORDER_COLOR);
+            layer.setStroke(BORDER_STROKE);
+            layer.drawRect(0, 0, width, boardHeight);
+            layer.dispose();
+            boards[parity] = board;
+        }
+        g.drawImage(boards[parity], 0, statusHeight, null);
+    }
+
+    // 다른 화면으로 옮겨지면 그 화면에 맞는 형식으로 다시 만듦
+    private void validate(GraphicsConfiguration target) {
+        if (target != config) {
+            config = target;
+            invalidate();
+        }
+    }
+
+    private Image createLayer(int w, int h) {
+        if (config != null) {
+            return config.createCompatibleImage(w, h, Transparency.OPAQUE);
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    }
+}
@@ -0,0 +1,46 @@
+package snakegame.game;
+
+/**
+ * 한 틱 동안 모양이 바뀐 칸 목록.
+ * 화면은 이 칸들만 다시 그리면 된다. 칸이 너무 많이 바뀌면(reset 등) 전체 변경으로 표시한다.
+ */
+public class ChangeSet {
+    private final int[] cells;
+    private int size;
+    private boolean all; // true면 판 전체를 다시 그려야 함
+
+    public ChangeSet(int capacity) {
+        cells = new int[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+        all = false;
+    }
+
+    public void add(int cell) {
+        if (all) return;
+        if (size == cells.length) {
+            markAll();
+            return;
+        }
+        cells[size++] = cell;
+    }
+
+    public void markAll() {
+        all = true;
+        size = 0;
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int i) {
+        return cells[i];
+    }
+}
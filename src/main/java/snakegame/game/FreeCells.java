@@ -0,0 +1,104 @@
+package snakegame.game;
+
+/**
+ * 비어 있는 칸들의 집합.
+ * 칸별 비트(1이면 빈 칸)와 64칸 묶음별 빈 칸 수의 펜윅 트리를 들고 있어 추가, 제거, 무작위 선택이
+ * 모두 O(log(칸 수 / 64))이다.
+ * 무작위 선택은 칸 번호 순서로 k번째 빈 칸을 고르므로, 어떤 순서로 추가, 제거했는지와 상관없이
+ * 같은 빈 칸 집합과 같은 난수 상태면 같은 칸이 나온다 (스냅숏에서 복원해도 이후 진행이 같음).
+ */
+public class FreeCells {
+    private final int totalCells;
+    private final long[] bits; // 칸별 빈 칸 표시
+    private final int[] tree;  // bits 워드별 빈 칸 수의 펜윅 트리 (1부터)
+    private final int topStep; // 트리를 내려갈 때 처음 보폭 (워드 수 이하 가장 큰 2의 거듭제곱)
+    private int size;
+
+    public FreeCells(int totalCells) {
+        this.totalCells = totalCells;
+        bits = new long[(totalCells + 63) >>> 6];
+        tree = new int[bits.length + 1];
+        topStep = Integer.highestOneBit(Math.max(1, bits.length));
+        reset();
+    }
+
+    // 모든 칸을 빈 칸으로
+    public void reset() {
+        for (int w = 0; w < bits.length; w++) {
+            int count = Math.min(64, totalCells - (w << 6));
+            bits[w] = count == 64 ? -1L : (1L << count) - 1;
+            tree[w + 1] = count;
+        }
+        // 트리는 아래에서 위로 한 번에 쌓음 (O(워드 수))
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        size = totalCells;
+    }
+
+    // 칸을 점유 상태로 (빈 칸 목록에서 제거)
+    public void remove(int cell) {
+        long mask = 1L << cell;
+        int w = cell >>> 6;
+        if ((bits[w] & mask) == 0) return;
+
+        bits[w] &= ~mask;
+        size--;
+        for (int i = w + 1; i < tree.length; i += i & -i) {
+            tree[i]--;
+        }
+    }
+
+    // 칸을 빈 상태로 (빈 칸 목록에 추가)
+    public void add(int cell) {
+        long mask = 1L << cell;
+        int w = cell >>> 6;
+        if ((bits[w] & mask) != 0) return;
+
+        bits[w] |= mask;
+        size++;
+        for (int i = w + 1; i < tree.length; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    // 균등한 확률로 빈 칸 하나를 고름 (칸 번호 순서로 k번째), 빈 칸이 없으면 -1
+    public int pick(GameRandom random) {
+        if (size == 0) return -1;
+        int k = random.nextInt(size);
+
+        // k번째 빈 칸이 있는 워드를 트리에서 찾음
+        int w = 0;
+        for (int step = topStep; step > 0; step >>>= 1) {
+            int next = w + step;
+            if (next < tree.length && tree[next] <= k) {
+                w = next;
+                k -= tree[next];
+            }
+        }
+        return (w << 6) + selectBit(bits[w], k);
+    }
+
+    // 워드에서 k번째(0부터) 켜진 비트의 위치 (BatchEngine도 씀)
+    public static int selectBit(long word, int k) {
+        for (; k > 0; k--) {
+            word &= word - 1;
+        }
+        return Long.numberOfTrailingZeros(word);
+    }
+
+    public boolean contains(int cell) {
+        return (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
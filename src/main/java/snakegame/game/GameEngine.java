@@ -0,0 +1,511 @@
+package snakegame.game;
+
+import java.util.Arrays;
+
+/**
+ * 화면과 무관한 스네이크 게임 규칙 엔진.
+ * 칸은 int 인덱스(y * columns + x)로 표현하며 step() 한 번이 한 틱이다.
+ * Swing 없이도 동작하므로 디스플레이가 없는 서버에서 대량 시뮬레이션에 쓸 수 있다.
+ * 틱 비용은 판 크기와 무관하며, 판 크기에 비례하는 작업은 reset()뿐이다.
+ */
+public class GameEngine {
+    public static final int INITIAL_LENGTH = 3; // 시작 시 뱀 길이
+
+    // 칸 상태 (board 배열 값)
+    public static final byte EMPTY = 0;
+    public static final byte SNAKE = 1;
+    public static final byte APPLE = 2;
+    public static final byte BOMB = 3;
+
+    private static final String DIRECTIONS = "UDLR"; // 스냅숏의 방향 코드 0~3
+
+    private final int columns;
+    private final int rows;
+    private final int appleCount;
+    private final boolean bombEnabled;
+    private final int tickMillis;  // 틱 간격 (ms)
+    private final long tickLimit;  // 제한 시간에 해당하는 틱 수, 0이면 제한 없음
+    private final long seed;
+    private final GameRandom random; // 시드가 같으면 사과, 폭탄 위치가 항상 같음
+    private final byte[] board; // 칸별 점유 상태
+    private final FreeCells freeCells; // 빈 칸 집합 (board와 항상 같이 갱신)
+
+    private final SnakeBody snake;
+    private final ChangeSet changes = new ChangeSet(16); // 이번 틱에 바뀐 칸
+    private final int[] appleCells; // 사과가 있는 칸
+    private int appleCellCount = 0;
+    private int bombCell = -1;      // 폭탄이 없으면 -1
+    private char direction = 'R';
+    private boolean running = false;
+    private int score = 0;
+    private long tickCount = 0;
+    private int[] restoreCells = new int[64]; // restore()에서 뱀 칸을 풀어 두는 곳
+    private int[] restoreMarks;  // restore() 겹침 검사용 칸별 표시 (처음 복원할 때 만듦)
+    private int restoreStamp = 0;
+
+    public GameEngine(GameSettings settings, long seed) {
+        settings.validate();
+        this.columns = settings.getColumns();
+        this.rows = settings.getRows();
+        this.appleCount = settings.getAppleCount();
+        this.bombEnabled = settings.isBombEnabled();
+        this.tickMillis = settings.getDelay();
+        this.tickLimit = settings.getGameTime() > 0 ? settings.getGameTime() * 1000L / tickMillis : 0;
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+        this.board = new byte[columns * rows];
+        this.freeCells = new FreeCells(columns * rows);
+        this.snake = new SnakeBody(64);
+        this.appleCells = new int[appleCount];
+        reset();
+    }
+
+    // 게임 상태를 처음으로 되돌림 (난수는 이어서 사용)
+    public void reset() {
+        // 초기 뱀 위치 (왼쪽 위에서 오른쪽을 향함)
+        int[] initial = new int[INITIAL_LENGTH];
+        for (int i = 0; i < INITIAL_LENGTH; i++) {
+            initial[i] = i;
+        }
+        layoutSnake(initial, INITIAL_LENGTH, 'R');
+        score = 0;
+        tickCount = 0;
+    }
+
+    /**
+     * 뱀을 주어진 칸들(꼬리 -> 머리 순서)에 다시 배치하고 사과와 폭탄을 새로 놓는다.
+     * 점수와 틱 수는 그대로 둔다. 벤치마크 등에서 긴 뱀 상태를 바로 만들 때 쓴다.
+     */
+    void layoutSnake(int[] cells, int length, char direction) {
+        placeSnake(cells, length, direction);
+
+        // 지정된 개수만큼 사과 생성 (빈 칸이 모자라면 가능한 만큼만)
+        for (int i = 0; i < appleCount; i++) {
+            if (!newApple()) break;
+        }
+
+        if (bombEnabled) {
+            newBomb();
+        }
+        running = true;
+    }
+
+    // 판을 비우고 뱀만 놓음
+    private void placeSnake(int[] cells, int length, char direction) {
+        snake.clear();
+        appleCellCount = 0;
+        bombCell = -1;
+        this.direction = direction;
+        Arrays.fill(board, EMPTY);
+        freeCells.reset();
+        changes.markAll();
+
+        for (int i = 0; i < length; i++) {
+            snake.addHead(cells[i]);
+            occupy(cells[i], SNAKE);
+        }
+    }
+
+    /**
+     * 현재 상태를 snapshot에 담음 (이전 내용은 지움).
+     * 가로, 세로(16비트씩) | 난수 상태(64) | 틱 수(64) | 점수(32) | 방향(2) | 진행 중(1)
+     * | 길이, 꼬리 칸 | 나머지 칸의 방향(2비트씩) | 사과 개수, 사과 칸들 | 폭탄 칸 + 1
+     * 칸 번호와 개수는 판 크기에 맞는 비트 수로 쓴다.
+     */
+    public void save(GameSnapshot snapshot) {
+        int cellBits = cellBits();
+        snapshot.clear();
+        snapshot.put(columns, 16);
+        snapshot.put(rows, 16);
+        snapshot.put(random.getState(), 64);
+        snapshot.put(tickCount, 64);
+        snapshot.put(score, 32);
+        snapshot.put(DIRECTIONS.indexOf(direction), 2);
+        snapshot.put(running ? 1 : 0, 1);
+
+        int length = snake.length();
+        snapshot.put(length, cellBits);
+        int prev = snake.get(0);
+        snapshot.put(prev, cellBits);
+        // 방향 코드는 32개씩 long 하나로 모아서 씀
+        long packed = 0;
+        int packedCount = 0;
+        for (int i = 1; i < length; i++) {
+            int cell = snake.get(i);
+            int diff = cell - prev;
+            long code = diff == -columns ? 0 : diff == columns ? 1 : diff == -1 ? 2 : 3;
+            packed |= code << (packedCount << 1);
+            if (++packedCount == 32) {
+                snapshot.put(packed, 64);
+                packed = 0;
+                packedCount = 0;
+            }
+            prev = cell;
+        }
+        if (packedCount > 0) {
+            snapshot.put(packed, packedCount << 1);
+        }
+
+        snapshot.put(appleCellCount, cellBits);
+        for (int i = 0; i < appleCellCount; i++) {
+            snapshot.put(appleCells[i], cellBits);
+        }
+        snapshot.put(bombCell + 1, cellBits);
+    }
+
+    /**
+     * snapshot에 담긴 상태로 되돌림. 판 크기가 다르거나 사과가 설정보다 많거나 내용이 잘못되었으면
+     * (판 밖으로 나가거나 스스로 겹치는 몸통, 뱀이나 서로와 겹치는 사과, 폭탄) 엔진을 바꾸지 않고
+     * IllegalArgumentException.
+     * 빈 칸 선택은 칸 번호 순서를 따르므로(FreeCells) 복원한 뒤의 사과, 폭탄 위치도 원래 진행과 같다.
+     */
+    public void restore(GameSnapshot snapshot) {
+        snapshot.rewind();
+        if (snapshot.get(16) != columns || snapshot.get(16) != rows) {
+            throw new IllegalArgumentException("판 크기가 다른 스냅숏");
+        }
+        long state = snapshot.get(64);
+        long ticks = snapshot.get(64);
+        int savedScore = (int) snapshot.get(32);
+        char savedDirection = DIRECTIONS.charAt((int) snapshot.get(2));
+        boolean savedRunning = snapshot.get(1) != 0;
+
+        int cellBits = cellBits();
+        int length = (int) snapshot.get(cellBits);
+        if (length < 1 || length > board.length) {
+            throw new IllegalArgumentException("잘못된 뱀 길이: " + length);
+        }
+        if (restoreCells.length < length + appleCells.length) {
+            restoreCells = new int[Math.max(length + appleCells.length, restoreCells.length * 2)];
+        }
+        if (restoreMarks == null) {
+            restoreMarks = new int[board.length];
+        }
+        if (++restoreStamp == 0) { // 표시 번호가 한 바퀴 돌면 표시를 지우고 다시 시작
+            Arrays.fill(restoreMarks, 0);
+            restoreStamp = 1;
+        }
+
+        // 뱀: 꼬리부터 한 칸씩 이어 가며 판 밖(가장자리를 넘어 다른 행으로 넘어가는 경우 포함)과 겹침을 검사
+        int cell = (int) snapshot.get(cellBits);
+        markRestoreCell(cell, "뱀");
+        restoreCells[0] = cell;
+        long packed = 0;
+        for (int i = 1; i < length; i++) {
+            int slot = (i - 1) & 31;
+            if (slot == 0) {
+                packed = snapshot.get(Math.min(64, (length - i) << 1));
+            }
+            int x = cell % columns;
+            int y = cell / columns;
+            switch ((int) (packed >>> (slot << 1)) & 3) {
+                case 0: y--; break;
+                case 1: y++; break;
+                case 2: x--; break;
+                default: x++; break;
+            }
+            if (x < 0 || x >= columns || y < 0 || y >= rows) {
+                throw new IllegalArgumentException("판 밖으로 나가는 뱀 몸통");
+            }
+            cell = y * columns + x;
+            markRestoreCell(cell, "뱀");
+            restoreCells[i] = cell;
+        }
+
+        // 사과와 폭탄은 뱀이나 다른 사과와 겹치지 않는 빈 칸이어야 함
+        int apples = (int) snapshot.get(cellBits);
+        if (apples > appleCells.length) {
+            throw new IllegalArgumentException("사과 개수가 설정보다 많은 스냅숏");
+        }
+        for (int i = 0; i < apples; i++) {
+            int apple = (int) snapshot.get(cellBits);
+            markRestoreCell(apple, "사과");
+            restoreCells[length + i] = apple;
+        }
+        int bomb = (int) snapshot.get(cellBits) - 1;
+        if (bomb >= 0) {
+            markRestoreCell(bomb, "폭탄");
+        }
+
+        // 여기부터 상태 변경 (검사를 모두 통과한 뒤)
+        placeSnake(restoreCells, length, savedDirection);
+        for (int i = 0; i < apples; i++) {
+            int apple = restoreCells[length + i];
+            appleCells[appleCellCount++] = apple;
+            occupy(apple, APPLE);
+        }
+        bombCell = bomb;
+        if (bombCell >= 0) {
+            occupy(bombCell, BOMB);
+        }
+        random.setState(state);
+        tickCount = ticks;
+        score = savedScore;
+        running = savedRunning;
+    }
+
+    // restore() 검사용: 칸이 판 안에 있고 이번 복원에서 처음 쓰이는지 확인하고 표시
+    private void markRestoreCell(int cell, String what) {
+        if (cell < 0 || cell >= board.length) {
+            throw new IllegalArgumentException("판 밖의 " + what + " 칸: " + cell);
+        }
+        if (restoreMarks[cell] == restoreStamp) {
+            throw new IllegalArgumentException(what + " 칸이 다른 것과 겹침: " + cell);
+        }
+        restoreMarks[cell] = restoreStamp;
+    }
+
+    // 칸 번호(0 ~ 칸 수)를 담는 데 필요한 비트 수
+    private int cellBits() {
+        return 32 - Integer.numberOfLeadingZeros(board.length);
+    }
+
+    /**
+     * 한 틱 진행. 진행 방향의 반대 방향 입력은 무시된다.
+     */
+    public StepResult step(char newDirection) {
+        if (!running) {
+            return StepResult.GAME_OVER;
+        }
+        changes.clear();
+        if (!isReverse(newDirection, direction)) {
+            direction = newDirection;
+        }
+        tickCount++;
+
+        int head = snake.head();
+        int x = head % columns;
+        int y = head / columns;
+        switch (direction) {
+            case 'U': y--; break;
+            case 'D': y++; break;
+            case 'L': x--; break;
+            case 'R': x++; break;
+        }
+
+        // 벽과 충돌 확인
+        if (x < 0 || x >= columns || y < 0 || y >= rows) {
+            running = false;
+            return StepResult.HIT_WALL;
+        }
+
+        int headCell = y * columns + x;
+        byte target = board[headCell];
+
+        // 폭탄과 충돌 확인
+        if (target == BOMB) {
+            running = false;
+            return StepResult.HIT_BOMB;
+        }
+
+        // 자기 몸과 충돌 확인 (사과를 먹지 않으면 꼬리는 이번 틱에 비워지므로 제외)
+        if (target == SNAKE && headCell != snake.tail()) {
+            running = false;
+            return StepResult.HIT_SELF;
+        }
+
+        if (target != APPLE) {
+            // 사과를 먹지 않았으면 꼬리 제거 (꼬리 칸으로 들어가는 경우를 위해 먼저 비움)
+            changes.add(head); // 이전 머리는 몸통 모양으로 바뀜
+            release(snake.removeTail());
+            snake.addHead(headCell);
+            occupy(headCell, SNAKE);
+            return checkTimeUp(StepResult.MOVED);
+        }
+
+        // 사과를 먹었을 때
+        removeApple(headCell);
+        changes.add(head);
+        snake.addHead(headCell);
+        occupy(headCell, SNAKE);
+        score++;
+        newApple();
+
+        // 폭탄이 없으면 생성, 있으면 이동
+        if (bombEnabled) {
+            if (bombCell < 0) {
+                newBomb();
+            } else {
+                moveBomb();
+            }
+        }
+
+        // 남은 사과도 없고 새로 놓을 칸도 없으면 더 이상 자랄 수 없음
+        if (appleCellCount == 0 && freeCells.isEmpty()) {
+            running = false;
+            return snake.length() == board.length ? StepResult.WON : StepResult.STALEMATE;
+        }
+        return checkTimeUp(StepResult.ATE_APPLE);
+    }
+
+    // 이동을 마친 뒤 제한 시간이 다 됐으면 게임 종료
+    private StepResult checkTimeUp(StepResult result) {
+        if (tickLimit > 0 && tickCount >= tickLimit) {
+            running = false;
+            return StepResult.TIME_UP;
+        }
+        return result;
+    }
+
+    public static boolean isReverse(char a, char b) {
+        return (a == 'U' && b == 'D') || (a == 'D' && b == 'U')
+                || (a == 'L' && b == 'R') || (a == 'R' && b == 'L');
+    }
+
+    // 빈 칸에 사과 생성, 빈 칸이 없으면 false
+    public boolean newApple() {
+        int cell = freeCells.pick(random);
+        if (cell < 0) return false;
+
+        appleCells[appleCellCount++] = cell;
+        occupy(cell, APPLE);
+        return true;
+    }
+
+    // 빈 칸에 폭탄 생성, 빈 칸이 없으면 false
+    public boolean newBomb() {
+        int cell = freeCells.pick(random);
+        if (cell < 0) return false;
+
+        bombCell = cell;
+        occupy(cell, BOMB);
+        return true;
+    }
+
+    public void moveBomb() {
+        if (bombCell < 0) return;
+
+        // 현재 자리를 비워야 같은 칸이 다시 뽑힐 수 있음
+        release(bombCell);
+        bombCell = -1;
+        newBomb();
+    }
+
+    private void occupy(int cell, byte kind) {
+        board[cell] = kind;
+        freeCells.remove(cell);
+        changes.add(cell);
+    }
+
+    private void release(int cell) {
+        board[cell] = EMPTY;
+        freeCells.add(cell);
+        changes.add(cell);
+    }
+
+    // 먹은 사과를 목록에서 제거 (마지막 원소와 자리 바꿈)
+    private void removeApple(int cell) {
+        for (int i = 0; i < appleCellCount; i++) {
+            if (appleCells[i] == cell) {
+                appleCells[i] = appleCells[--appleCellCount];
+                return;
+            }
+        }
+    }
+
+    // 뱀, 사과, 폭탄 중 하나라도 있으면 true (O(1))
+    public boolean isPositionOccupied(int x, int y) {
+        return board[y * columns + x] != EMPTY;
+    }
+
+    // 칸 상태 (EMPTY, SNAKE, APPLE, BOMB)
+    public byte getCell(int x, int y) {
+        return board[y * columns + x];
+    }
+
+    // 칸 번호로 칸 상태 조회
+    public byte getCell(int cell) {
+        return board[cell];
+    }
+
+    // 마지막 step() (또는 reset()) 이후 바뀐 칸들
+    public ChangeSet getChanges() {
+        return changes;
+    }
+
+    public int cellX(int cell) {
+        return cell % columns;
+    }
+
+    public int cellY(int cell) {
+        return cell / columns;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getAppleCount() {
+        return appleCount;
+    }
+
+    public int getLength() {
+        return snake.length();
+    }
+
+    // i번째 몸통 칸 (0 = 꼬리, getLength() - 1 = 머리)
+    public int getSnakeCell(int i) {
+        return snake.get(i);
+    }
+
+    public int getHeadCell() {
+        return snake.head();
+    }
+
+    public int getAppleCellCount() {
+        return appleCellCount;
+    }
+
+    public int getAppleCell(int i) {
+        return appleCells[i];
+    }
+
+    // 폭탄 칸, 없으면 -1
+    public int getBombCell() {
+        return bombCell;
+    }
+
+    // 남은 빈 칸 수
+    public int getFreeCellCount() {
+        return freeCells.size();
+    }
+
+    public boolean hasBomb() {
+        return bombCell >= 0;
+    }
+
+    public char getDirection() {
+        return direction;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // 남은 시간 (초), 진행한 틱 수로 계산
+    public int getTimeLeft() {
+        if (tickLimit == 0) return 0;
+        long elapsedSeconds = tickCount * tickMillis / 1000;
+        return (int) Math.max(0, tickLimit * tickMillis / 1000 - elapsedSeconds);
+    }
+
+    public long getTickLimit() {
+        return tickLimit;
+    }
+}
@@ -0,0 +1,131 @@
+package snakegame.game;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 간격(fixed timestep) 게임 루프.
+ * 전용 스레드에서 System.nanoTime() 기준으로 시뮬레이션 틱을 정확한 간격으로 실행하고,
+ * 그리기는 화면 주사율에 맞춰 틱 사이의 진행률(alpha, 0~1)과 함께 요청한다.
+ * 스레드가 밀리면 밀린 틱을 빠짐없이 순서대로 실행해서 따라잡는다.
+ */
+public class GameLoop implements Runnable {
+    // 한 번에 따라잡는 최대 틱 수 (나머지는 다음 반복으로 넘김, 버리지 않음)
+    private static final int MAX_CATCH_UP_TICKS = 32;
+
+    public interface Listener {
+        // 시뮬레이션 한 틱 (게임 루프 스레드에서 호출)
+        void tick();
+
+        // 그리기 요청, alpha는 마지막 틱 이후 다음 틱까지의 진행률 (게임 루프 스레드에서 호출)
+        void render(double alpha);
+    }
+
+    private final Listener listener;
+    private final long tickNanos;
+    private final long frameNanos;
+
+    private Thread thread;
+    private volatile boolean running = false;
+    private volatile boolean paused = false;
+    private volatile boolean resyncClock = true; // 일시정지 해제 후 멈춘 시간을 틱으로 세지 않도록
+    private volatile long tickCount = 0;
+    private volatile long lateTicks = 0; // 따라잡기로 실행된 틱 수
+
+    public GameLoop(Listener listener, long tickMillis, int framesPerSecond) {
+        this.listener = listener;
+        this.tickNanos = tickMillis * 1_000_000L;
+        this.frameNanos = 1_000_000_000L / Math.max(1, framesPerSecond);
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        paused = false;
+        resyncClock = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    // 틱 진행을 멈춤 (그리기 요청도 멈춤)
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        resyncClock = true;
+        paused = false;
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (running) {
+            if (paused) {
+                LockSupport.parkNanos(frameNanos);
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (resyncClock) {
+                resyncClock = false;
+                previous = now;
+                accumulator = 0;
+            }
+            accumulator += now - previous;
+            previous = now;
+
+            // 밀린 틱을 순서대로 실행
+            int ticks = 0;
+            while (accumulator >= tickNanos && ticks < MAX_CATCH_UP_TICKS && running && !paused) {
+                listener.tick();
+                accumulator -= tickNanos;
+                tickCount++;
+                if (++ticks > 1) {
+                    lateTicks++;
+                }
+            }
+
+            if (!paused) {
+                listener.render(Math.min(1.0, (double) accumulator / tickNanos));
+            }
+
+            // 다음 프레임 또는 다음 틱 중 빠른 시각까지 대기 (따라잡는 중이면 바로 다음 반복)
+            if (accumulator < tickNanos) {
+                long untilTick = tickNanos - accumulator;
+                long elapsed = System.nanoTime() - now;
+                long wait = Math.min(frameNanos, untilTick) - elapsed;
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+        }
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // 제시간에 실행되지 못하고 따라잡기로 실행된 틱 수
+    public long getLateTicks() {
+        return lateTicks;
+    }
+}
@@ -0,0 +1,48 @@
+package snakegame.game;
+
+/**
+ * 게임 전용 난수 생성기 (SplitMix64).
+ * 상태가 long 하나라서 시드만 같으면 어떤 JVM에서도 같은 수열이 나오고,
+ * 상태를 그대로 저장했다가 되돌릴 수 있다 (리플레이, 세이브 용도).
+ */
+public class GameRandom {
+    public static final long GAMMA = 0x9E3779B97F4A7C15L; // 상태 증가량
+
+    private long state;
+
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        return mix(state += GAMMA);
+    }
+
+    // 상태 하나를 출력값으로 섞음 (상태를 배열로 따로 들고 있는 곳에서도 같은 수열을 만들 수 있도록 공개)
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // [0, bound) 범위의 균등한 정수 (java.util.Random.nextInt와 같은 방식으로 편향 제거)
+    public int nextInt(int bound) {
+        int r = (int) (nextLong() >>> 33);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong() >>> 33)) {
+            // 편향이 생기는 구간이면 다시 뽑음
+        }
+        return r;
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+}
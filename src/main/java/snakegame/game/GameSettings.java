@@ -0,0 +1,267 @@
+package snakegame.game;
+
+/**
+ * 게임 설정값.
+ * 격자 크기(칸 단위)와 화면 크기(픽셀 단위)를 분리해서 관리한다.
+ * 격자가 화면보다 크면 뷰포트가 머리를 따라 스크롤된다.
+ */
+public class GameSettings {
+    private static final int MAX_GRID = 65_535; // 가로, 세로 최대 칸 수 (네트워크 형식의 2바이트)
+    private static final int MAX_CELLS = 1 << 28; // 전체 칸 수 상한 (칸별 배열을 int 크기로 만들 수 있게)
+
+    private int columns = 15;      // 격자 가로 칸 수
+    private int rows = 15;         // 격자 세로 칸 수
+    private int unitSize = 40;     // 한 칸의 픽셀 크기
+    private int viewColumns = 15;  // 화면에 보이는 최대 가로 칸 수
+    private int viewRows = 15;     // 화면에 보이는 최대 세로 칸 수
+    private int appleCount = 3;    // 동시에 놓이는 사과 개수
+    private boolean bombEnabled = true;
+    private int delay = 100;       // 틱 간격 (ms)
+    private int gameTime = 30;     // 제한 시간 (초)
+    private String replayDirectory = "replays"; // 리플레이 저장 폴더, 빈 문자열이면 기록 안 함
+    private String scoreFile = "scores.snks";   // 최고 점수 파일, 빈 문자열이면 저장 안 함
+    private String metricsDirectory = "metrics"; // 게임 오버 시 측정값 보고서 폴더, 빈 문자열이면 저장 안 함
+    private String saveFile = "save.snkg";       // F5 저장, F9 불러오기 파일
+    private boolean activeRendering = false; // 게임 루프 스레드에서 BufferStrategy로 직접 그리기
+    private int bufferCount = 2;  // 능동 렌더링 버퍼 수 (2 또는 3)
+    private boolean debugOverlay = false; // 측정값 오버레이를 켠 채로 시작 (F3으로 전환)
+    private String bot = "";       // 자동 플레이 정책 이름 (greedy, bfs, astar, hamiltonian), 빈 문자열이면 사람이 조작
+
+    /**
+     * 시스템 프로퍼티(-Dsnake.columns=1000 등)로 기본값을 덮어쓴 설정.
+     * 범위를 벗어난 값은 setter와 같이 IllegalArgumentException, 모두 읽은 뒤 validate()로 값끼리 검사.
+     */
+    public static GameSettings fromSystemProperties() {
+        GameSettings settings = new GameSettings();
+        settings.setColumns(Integer.getInteger("snake.columns", settings.columns));
+        settings.setRows(Integer.getInteger("snake.rows", settings.rows));
+        settings.setUnitSize(Integer.getInteger("snake.unitSize", settings.unitSize));
+        settings.setViewColumns(Integer.getInteger("snake.viewColumns", settings.viewColumns));
+        settings.setViewRows(Integer.getInteger("snake.viewRows", settings.viewRows));
+        settings.setAppleCount(Integer.getInteger("snake.appleCount", settings.appleCount));
+        settings.bombEnabled = Boolean.parseBoolean(System.getProperty("snake.bomb", String.valueOf(settings.bombEnabled)));
+        settings.setDelay(Integer.getInteger("snake.delay", settings.delay));
+        settings.setGameTime(Integer.getInteger("snake.gameTime", settings.gameTime));
+        settings.replayDirectory = System.getProperty("snake.replayDir", settings.replayDirectory);
+        settings.scoreFile = System.getProperty("snake.scoreFile", settings.scoreFile);
+        settings.metricsDirectory = System.getProperty("snake.metricsDir", settings.metricsDirectory);
+        settings.saveFile = System.getProperty("snake.saveFile", settings.saveFile);
+        settings.debugOverlay = Boolean.getBoolean("snake.debugOverlay");
+        settings.activeRendering = Boolean.getBoolean("snake.activeRendering");
+        settings.setBufferCount(Integer.getInteger("snake.buffers", settings.bufferCount));
+        settings.bot = System.getProperty("snake.bot", settings.bot);
+        return settings.validate();
+    }
+
+    // 값이 [min, max] 범위인지 확인, 아니면 프로퍼티 이름과 함께 IllegalArgumentException
+    private static int checkRange(String property, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(property + " 값은 " + min + " ~ " + max + " 범위여야 합니다: " + value);
+        }
+        return value;
+    }
+
+    // 전체 칸 수가 상한 안인지 (가로, 세로 setter에서)
+    private static void checkCells(String property, long cells) {
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException(property + " 값으로 전체 칸 수가 " + MAX_CELLS + "을 넘습니다: " + cells);
+        }
+    }
+
+    /**
+     * 값끼리 맞는지 검사 (사과가 처음 뱀을 놓고 남은 칸에 들어가는지). setter는 자기 값의 범위만 보므로
+     * 설정을 다 채운 뒤 한 번 부른다 (fromSystemProperties, 엔진 생성 시).
+     */
+    public GameSettings validate() {
+        int room = columns * rows - GameEngine.INITIAL_LENGTH;
+        checkRange("snake.appleCount", appleCount, 0, room);
+        return this;
+    }
+
+    public GameSettings copy() {
+        GameSettings copy = new GameSettings();
+        copy.columns = columns;
+        copy.rows = rows;
+        copy.unitSize = unitSize;
+        copy.viewColumns = viewColumns;
+        copy.viewRows = viewRows;
+        copy.appleCount = appleCount;
+        copy.bombEnabled = bombEnabled;
+        copy.delay = delay;
+        copy.gameTime = gameTime;
+        copy.replayDirectory = replayDirectory;
+        copy.scoreFile = scoreFile;
+        copy.metricsDirectory = metricsDirectory;
+        copy.saveFile = saveFile;
+        copy.debugOverlay = debugOverlay;
+        copy.activeRendering = activeRendering;
+        copy.bufferCount = bufferCount;
+        copy.bot = bot;
+        return copy;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public GameSettings setColumns(int columns) {
+        checkRange("snake.columns", columns, GameEngine.INITIAL_LENGTH, MAX_GRID);
+        checkCells("snake.columns", (long) columns * rows);
+        this.columns = columns;
+        return this;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public GameSettings setRows(int rows) {
+        checkRange("snake.rows", rows, 1, MAX_GRID);
+        checkCells("snake.rows", (long) columns * rows);
+        this.rows = rows;
+        return this;
+    }
+
+    // 가로, 세로를 같은 칸 수로
+    public GameSettings setGridSize(int gridSize) {
+        setRows(gridSize);
+        return setColumns(gridSize);
+    }
+
+    public int getUnitSize() {
+        return unitSize;
+    }
+
+    public GameSettings setUnitSize(int unitSize) {
+        this.unitSize = checkRange("snake.unitSize", unitSize, 1, 1024);
+        return this;
+    }
+
+    // 실제로 화면에 보이는 가로 칸 수 (격자보다 클 수 없음)
+    public int getViewColumns() {
+        return Math.min(viewColumns, columns);
+    }
+
+    public GameSettings setViewColumns(int viewColumns) {
+        this.viewColumns = checkRange("snake.viewColumns", viewColumns, 1, MAX_GRID);
+        return this;
+    }
+
+    // 실제로 화면에 보이는 세로 칸 수 (격자보다 클 수 없음)
+    public int getViewRows() {
+        return Math.min(viewRows, rows);
+    }
+
+    public GameSettings setViewRows(int viewRows) {
+        this.viewRows = checkRange("snake.viewRows", viewRows, 1, MAX_GRID);
+        return this;
+    }
+
+    public int getAppleCount() {
+        return appleCount;
+    }
+
+    public GameSettings setAppleCount(int appleCount) {
+        this.appleCount = checkRange("snake.appleCount", appleCount, 0, MAX_CELLS);
+        return this;
+    }
+
+    public boolean isBombEnabled() {
+        return bombEnabled;
+    }
+
+    public GameSettings setBombEnabled(boolean bombEnabled) {
+        this.bombEnabled = bombEnabled;
+        return this;
+    }
+
+    public int getDelay() {
+        return delay;
+    }
+
+    public GameSettings setDelay(int delay) {
+        this.delay = checkRange("snake.delay", delay, 1, 60_000);
+        return this;
+    }
+
+    public int getGameTime() {
+        return gameTime;
+    }
+
+    public GameSettings setGameTime(int gameTime) {
+        this.gameTime = checkRange("snake.gameTime", gameTime, 0, 65_535); // 0이면 제한 없음
+        return this;
+    }
+
+    public String getReplayDirectory() {
+        return replayDirectory;
+    }
+
+    public GameSettings setReplayDirectory(String replayDirectory) {
+        this.replayDirectory = replayDirectory;
+        return this;
+    }
+
+    public String getScoreFile() {
+        return scoreFile;
+    }
+
+    public GameSettings setScoreFile(String scoreFile) {
+        this.scoreFile = scoreFile;
+        return this;
+    }
+
+    public String getMetricsDirectory() {
+        return metricsDirectory;
+    }
+
+    public GameSettings setMetricsDirectory(String metricsDirectory) {
+        this.metricsDirectory = metricsDirectory;
+        return this;
+    }
+
+    public String getSaveFile() {
+        return saveFile;
+    }
+
+    public GameSettings setSaveFile(String saveFile) {
+        this.saveFile = saveFile;
+        return this;
+    }
+
+    public boolean isDebugOverlay() {
+        return debugOverlay;
+    }
+
+    public GameSettings setDebugOverlay(boolean debugOverlay) {
+        this.debugOverlay = debugOverlay;
+        return this;
+    }
+
+    public boolean isActiveRendering() {
+        return activeRendering;
+    }
+
+    public GameSettings setActiveRendering(boolean activeRendering) {
+        this.activeRendering = activeRendering;
+        return this;
+    }
+
+    public int getBufferCount() {
+        return bufferCount;
+    }
+
+    public GameSettings setBufferCount(int bufferCount) {
+        this.bufferCount = checkRange("snake.buffers", bufferCount, 2, 3);
+        return this;
+    }
+
+    public String getBot() {
+        return bot;
+    }
+
+    public GameSettings setBot(String bot) {
+        this.bot = bot;
+        return this;
+    }
+}
@@ -0,0 +1,132 @@
+package snakegame.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * 엔진 상태 한 시점을 비트 단위로 압축해 long 배열에 담은 스냅숏 (되감기, 저장, 정책 탐색용).
+ * 뱀은 꼬리 칸과 이어지는 칸들의 방향 2비트씩, 사과와 폭탄은 칸 번호로 담고, 판 상태와 빈 칸 목록은
+ * 이것으로 다시 만든다. 15x15 판에서 길이 50인 뱀도 50바이트 안팎이다.
+ * 객체를 돌려 쓰면 저장과 복사 모두 할당이 없고, 복사는 배열 몇 칸 복사뿐이다.
+ */
+public final class GameSnapshot {
+    private static final int MAGIC = 0x534E4B47; // "SNKG"
+    private static final byte VERSION = 2; // 2: 틱 수를 64비트로
+
+    private long[] words = new long[8];
+    private int bits = 0;         // 쓴 비트 수
+    private int readPosition = 0; // 복원할 때 읽는 위치 (비트)
+
+    // 비어 있는 스냅숏 (GameEngine.save()로 채움)
+    public GameSnapshot() {
+    }
+
+    public void copyFrom(GameSnapshot other) {
+        int used = (other.bits + 63) >>> 6;
+        int oldUsed = (bits + 63) >>> 6;
+        if (words.length < other.words.length) {
+            words = new long[other.words.length];
+        } else if (oldUsed > used) {
+            Arrays.fill(words, used, oldUsed, 0);
+        }
+        System.arraycopy(other.words, 0, words, 0, used);
+        bits = other.bits;
+    }
+
+    public GameSnapshot copy() {
+        GameSnapshot copy = new GameSnapshot();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    public int sizeInBytes() {
+        return (bits + 7) >>> 3;
+    }
+
+    void clear() {
+        Arrays.fill(words, 0, (bits + 63) >>> 6, 0);
+        bits = 0;
+    }
+
+    // 값의 하위 width비트를 이어 씀 (width는 1~64)
+    void put(long value, int width) {
+        if (width < 64) {
+            value &= (1L << width) - 1;
+        }
+        int index = bits >>> 6;
+        int offset = bits & 63;
+        if (index + 1 >= words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        words[index] |= value << offset;
+        if (offset + width > 64) {
+            words[index + 1] |= value >>> (64 - offset);
+        }
+        bits += width;
+    }
+
+    // 읽는 위치를 처음으로
+    void rewind() {
+        readPosition = 0;
+    }
+
+    // 다음 width비트를 읽음, 쓴 것보다 많이 읽으면 IllegalArgumentException (잘린 파일 등)
+    long get(int width) {
+        if (readPosition + width > bits) {
+            throw new IllegalArgumentException("스냅숏이 잘림");
+        }
+        int index = readPosition >>> 6;
+        int offset = readPosition & 63;
+        long value = words[index] >>> offset;
+        if (offset + width > 64) {
+            value |= words[index + 1] << (64 - offset);
+        }
+        readPosition += width;
+        return width < 64 ? value & ((1L << width) - 1) : value;
+    }
+
+    /**
+     * 파일로 저장: "SNKG" | 버전(1) | 비트 수(4) | long 배열
+     */
+    public void write(Path file) throws IOException {
+        int used = (bits + 63) >>> 6;
+        ByteBuffer buffer = ByteBuffer.allocate(9 + used * 8);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putInt(bits);
+        for (int i = 0; i < used; i++) {
+            buffer.putLong(words[i]);
+        }
+        Files.write(file, buffer.array());
+    }
+
+    public static GameSnapshot read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < 9 || buffer.getInt() != MAGIC) {
+            throw new IOException("저장 파일이 아닙니다: " + file);
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 저장 파일 버전: " + version);
+        }
+        int bits = buffer.getInt();
+        int used = (bits + 63) >>> 6;
+        if (bits < 0 || buffer.remaining() < used * 8L) {
+            throw new IOException("저장 파일이 잘렸습니다: " + file);
+        }
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.words = new long[Math.max(8, used + 1)];
+        for (int i = 0; i < used; i++) {
+            snapshot.words[i] = buffer.getLong();
+        }
+        snapshot.bits = bits;
+        return snapshot;
+    }
+}
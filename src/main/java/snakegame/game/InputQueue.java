@@ -0,0 +1,106 @@
+package snakegame.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키 입력(EDT)과 게임 루프 사이의 방향 입력 버퍼.
+ * 생산자 하나(EDT), 소비자 하나(게임 루프)를 전제로 한 락 없는 고정 크기 링 버퍼이며,
+ * 틱마다 하나씩 꺼내 쓰므로 한 틱 안에 빠르게 누른 키도 잃어버리거나 순서가 바뀌지 않는다.
+ * 새 입력은 현재 방향이 아니라 마지막으로 넣은 입력을 기준으로 역방향 여부를 검사한다.
+ */
+public class InputQueue {
+    private final char[] directions;
+    private final long[] timestamps; // 입력 시각 (System.nanoTime)
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 위치 (소비자만 증가)
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치 (생산자만 증가)
+    private char lastQueued = 'R'; // 마지막으로 넣은 방향 (생산자 전용)
+
+    // 입력부터 실제 이동까지의 지연 (소비자가 기록)
+    private volatile long lastLatencyNanos = 0;
+    private volatile long maxLatencyNanos = 0;
+    private volatile long totalLatencyNanos = 0;
+    private volatile long consumedCount = 0;
+
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        directions = new char[size];
+        timestamps = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * 방향 입력 추가 (생산자 스레드).
+     * 마지막 입력과 같거나 반대 방향이면, 또는 버퍼가 가득 차면 무시하고 false를 돌려준다.
+     */
+    public boolean offer(char direction) {
+        if (direction == lastQueued || GameEngine.isReverse(direction, lastQueued)) {
+            return false;
+        }
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            return false;
+        }
+        int index = (int) t & mask;
+        directions[index] = direction;
+        timestamps[index] = System.nanoTime();
+        tail.lazySet(t + 1); // 내용을 다 쓴 뒤 공개
+        lastQueued = direction;
+        return true;
+    }
+
+    /**
+     * 이번 틱에 쓸 방향 하나를 꺼냄 (소비자 스레드). 입력이 없으면 0.
+     * 꺼낸 입력은 곧바로 이번 틱 이동에 쓰이므로 여기서 입력 지연을 기록한다.
+     */
+    public char poll() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return 0;
+        }
+        int index = (int) h & mask;
+        char direction = directions[index];
+        long latency = System.nanoTime() - timestamps[index];
+        head.lazySet(h + 1);
+
+        lastLatencyNanos = latency;
+        if (latency > maxLatencyNanos) {
+            maxLatencyNanos = latency;
+        }
+        totalLatencyNanos += latency;
+        consumedCount++;
+        return direction;
+    }
+
+    /**
+     * 남은 입력을 버리고 기준 방향을 되돌림.
+     * 소비자가 멈춰 있을 때(게임 루프 일시정지 중) 생산자 스레드에서만 호출한다.
+     */
+    public void reset(char direction) {
+        head.set(tail.get());
+        lastQueued = direction;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    // 평균 입력 지연 (나노초)
+    public long getAverageLatencyNanos() {
+        long count = consumedCount;
+        return count == 0 ? 0 : totalLatencyNanos / count;
+    }
+
+    public long getConsumedCount() {
+        return consumedCount;
+    }
+}
@@ -0,0 +1,63 @@
+package snakegame.game;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * 게임 루프 스레드에서 직접 그리는 능동 렌더링용 캔버스.
+ * Swing의 repaint 요청과 EDT를 거치지 않고 BufferStrategy(더블 또는 트리플 버퍼)에 한 프레임을
+ * 통째로 그린 뒤 show()로 넘기므로, 그리기가 느려도 키 입력 처리가 밀리지 않는다.
+ */
+public class RenderCanvas extends Canvas {
+    private final int bufferCount;
+    private volatile BufferStrategy strategy;
+
+    public RenderCanvas(int bufferCount) {
+        this.bufferCount = Math.max(2, Math.min(3, bufferCount));
+        setIgnoreRepaint(true); // 운영체제의 다시 그리기 요청도 게임 루프가 다음 프레임에 처리
+        setFocusable(false);    // 키 입력은 계속 SnakeGame 패널이 받음
+    }
+
+    /**
+     * 한 프레임을 그려서 화면에 표시 (게임 루프 스레드에서 호출).
+     * 캔버스가 아직 화면에 붙지 않았거나 숨겨져 있으면 그리지 않고 false.
+     */
+    public boolean render(Consumer<Graphics2D> painter) {
+        if (!isDisplayable() || !isVisible()) {
+            return false;
+        }
+        BufferStrategy buffers = strategy;
+        if (buffers == null) {
+            createBufferStrategy(bufferCount);
+            buffers = strategy = getBufferStrategy();
+        }
+
+        // 그리는 도중 버퍼 내용을 잃으면(화면 모드 변경 등) 다시 그림
+        do {
+            do {
+                Graphics2D g = (Graphics2D) buffers.getDrawGraphics();
+                try {
+                    painter.accept(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (buffers.contentsRestored());
+            buffers.show();
+        } while (buffers.contentsLost());
+
+        // 일부 플랫폼(X11)은 그리기 명령을 모아 두므로 프레임마다 바로 내보냄
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    @Override
+    public void removeNotify() {
+        BufferStrategy buffers = strategy;
+        strategy = null;
+        if (buffers != null) {
+            buffers.dispose();
+        }
+        super.removeNotify();
+    }
+}
@@ -0,0 +1,72 @@
+package snakegame.game;
+
+/**
+ * 뱀 몸통을 칸 인덱스(int)로 담는 링 버퍼.
+ * 머리 추가와 꼬리 제거가 모두 O(1)이며 틱마다 객체를 만들지 않는다.
+ * 인덱스 0이 꼬리, length() - 1이 머리이다.
+ */
+public class SnakeBody {
+    private int[] cells;
+    private int mask;   // cells.length - 1 (길이는 항상 2의 거듭제곱)
+    private int tail;   // 꼬리 위치
+    private int length;
+
+    public SnakeBody(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(4, initialCapacity - 1)) << 1;
+        cells = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public void clear() {
+        tail = 0;
+        length = 0;
+    }
+
+    // 머리 쪽에 칸 추가 (가득 차면 두 배로 늘림)
+    public void addHead(int cell) {
+        if (length == cells.length) {
+            grow();
+        }
+        cells[(tail + length) & mask] = cell;
+        length++;
+    }
+
+    // 꼬리 칸을 제거하고 그 칸 인덱스를 돌려줌
+    public int removeTail() {
+        int cell = cells[tail];
+        tail = (tail + 1) & mask;
+        length--;
+        return cell;
+    }
+
+    public int head() {
+        return cells[(tail + length - 1) & mask];
+    }
+
+    public int tail() {
+        return cells[tail];
+    }
+
+    // i번째 칸 (0 = 꼬리)
+    public int get(int i) {
+        return cells[(tail + i) & mask];
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int capacity() {
+        return cells.length;
+    }
+
+    private void grow() {
+        int[] grown = new int[cells.length << 1];
+        for (int i = 0; i < length; i++) {
+            grown[i] = cells[(tail + i) & mask];
+        }
+        cells = grown;
+        mask = grown.length - 1;
+        tail = 0;
+    }
+}
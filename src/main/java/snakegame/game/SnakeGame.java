@@ -5,35 +5,82 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.Random;
+import snakegame.bot.Controllers;
+import snakegame.bot.SnakeController;
+import snakegame.metrics.FrameEvent;
+import snakegame.metrics.GameMetrics;
+import snakegame.metrics.LifecycleEvent;
+import snakegame.metrics.TickEvent;
+import snakegame.replay.ReplayWriter;
+import snakegame.score.HighScoreStore;
+import snakegame.score.ScoreRecord;
 import javax.imageio.ImageIO;
 import java.util.function.Consumer;
 
-public class SnakeGame extends JPanel implements ActionListener, KeyListener {
-    private final int BOARD_WIDTH = 600; // 15 * 40 = 600
-    private final int BOARD_HEIGHT = 600; // 15 * 40 = 600
+public class SnakeGame extends JPanel implements GameLoop.Listener, KeyListener {
+    // 그리기에 쓰는 폰트, 색, 선 굵기는 한 번만 만들어 재사용 (프레임마다 객체를 만들지 않음)
+    private static final Font SMALL_FONT = resolveKoreanFont(16);
+    private static final Font MEDIUM_FONT = resolveKoreanFont(24);
+    private static final Font LARGE_FONT = resolveKoreanFont(32);
+    private static final Color PAUSE_OVERLAY_COLOR = new Color(0, 0, 0, 100);
+    private static final Color GAME_OVER_OVERLAY_COLOR = new Color(255, 255, 255, 220);
+    private static final Color FINAL_SCORE_COLOR = new Color(244, 67, 54);
+    private static final Color GAME_OVER_TITLE_COLOR = new Color(63, 81, 181);
+    private static final Color RESTART_HINT_COLOR = new Color(96, 125, 139);
+    private static final Font OVERLAY_FONT = resolveKoreanFont(12);
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 170);
+    private static final long OVERLAY_REFRESH_NANOS = 250_000_000L; // 오버레이 갱신 간격
+    private static final int REWIND_SECONDS = 10;    // 되감기로 돌아갈 수 있는 최대 시간
+    private static final int REWIND_STEP_MILLIS = 1000; // 백스페이스 한 번에 되감는 시간
+
+    private final int BOARD_WIDTH; // 화면에 보이는 게임 영역 너비 (보이는 칸 수 * UNIT_SIZE)
+    private final int BOARD_HEIGHT; // 화면에 보이는 게임 영역 높이
     private final int STATUS_HEIGHT = 100; // 80에서 100으로 증가
-    private final int UNIT_SIZE = 40; // 600 / 15 = 40
-    private final int GRID_SIZE = 15; // 15x15 격자
-    private final int DELAY = 100;
-    private final int GAME_TIME = 30; // 30초
-
-    private ArrayList<Point> snake;
-    private ArrayList<Point> apples; // 여러 개의 사과를 담을 리스트
-    private Point bomb;
-    private char direction = 'R';
-    private boolean running = false;
-    private Timer timer;
-    private Timer gameTimer;
-    private Random random;
+    private final int UNIT_SIZE; // 한 칸의 픽셀 크기
+    private final int DELAY;
+    private final int GAME_TIME;
+
+    private final GameSettings settings;
+    private GameEngine engine; // 게임 규칙과 상태
+    private int viewX = 0; // 화면 왼쪽 위에 보이는 칸 (격자가 화면보다 클 때 스크롤)
+    private int viewY = 0;
+    private final BackgroundLayer background; // 체스판, 테두리, 상태창 배경 캐시
+    private SpriteAtlas sprites; // 머리, 몸통, 사과, 폭탄을 UNIT_SIZE로 미리 그려 둔 이미지
+    private final Rectangle clipBounds = new Rectangle(); // draw()에서 재사용
+    private String scoreText = "0";     // 상태창 문자열 (값이 바뀔 때만 새로 만듦)
+    private String highScoreText = "0";
+    private String timeText = "";
+    private final InputQueue input = new InputQueue(8); // 키 입력(EDT) -> 게임 루프, 틱마다 하나씩 사용
+    private volatile boolean running = false; // 게임 루프가 stateLock 안에서 쓰고 EDT가 잠금 없이 읽음
+    private GameLoop loop; // 고정 간격 틱 + 화면 주사율 그리기
+    private final Object stateLock = new Object(); // 게임 루프 스레드와 EDT가 함께 쓰는 상태 보호
+    private int previousHeadCell = -1; // 직전 틱의 머리 칸 (머리 보간용)
+    private volatile double renderAlpha = 1.0; // 직전 틱에서 다음 틱까지의 진행률
+    private final Random seeds = new Random(); // 판마다 새 시드를 뽑는 용도, 게임 진행은 엔진의 시드로만 결정됨
+    private final GameMetrics metrics = new GameMetrics();
+    private final Rectangle overlayBounds = new Rectangle(8, 0, 330, 0);
+    private volatile boolean metricsOverlay; // F3으로 전환
+    private long overlayRepaintAt = 0;
+    private RenderCanvas canvas; // 능동 렌더링 모드에서만 사용, 진행 중에만 보임
+    private final Consumer<Graphics2D> activePainter = this::paintActiveFrame;
+    private int drawCalls = 0; // 이번 draw()의 스프라이트 복사 횟수 (EDT 전용)
+    private SnakeController autopilot; // 자동 플레이 정책 (데모 모드), 사람이 조작하면 null
+    private ReplayWriter recorder; // 현재 판의 리플레이 기록기 (기록하지 않으면 null)
+    private final SnapshotRing history; // 틱마다 저장하는 최근 상태 (되감기용)
+    private final GameSnapshot saveSlot = new GameSnapshot(); // F5 저장에 돌려 씀
+    private boolean rewound = false; // 되감기나 불러오기를 쓴 판 (리플레이 기록을 끝내고 점수는 남기지 않음)
     private int score = 0;
-    private int highScore = 0;
-    private int timeLeft = GAME_TIME;
-    private boolean gameOver = false;
-    private boolean hasBomb = false;
-    private int appleCount = 3; // 기본 사과 개수
+    private int highScore = 0;     // 현재 설정(사과 개수, 격자 크기)의 최고 점수
+    private HighScoreStore highScores; // 게임 기록 저장소 (열지 못하면 null, 최고 점수는 메모리에만 유지)
+    private int timeLeft;
+    private volatile boolean gameOver = false;
+    private StepResult lastResult = StepResult.MOVED; // 마지막 틱 결과 (게임 오버 사유 표시용)
+    private int appleCount; // 사과 개수
 
     private BufferedImage appleImage;
     private BufferedImage bombImage;
@@ -42,14 +89,36 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
     private BufferedImage timeIcon;
     private Graphics2D g;
 
-    private boolean paused = false;
+    private volatile boolean paused = false;
     private JPanel pausePanel;
     private JButton resumeButton;
     private JButton restartButton;
     private JButton exitButton;
 
     public SnakeGame() {
-        random = new Random();
+        this(GameSettings.fromSystemProperties());
+    }
+
+    public SnakeGame(GameSettings settings) {
+        this(settings, null);
+    }
+
+    /**
+     * engine이 주어지면 대화상자와 게임 루프 없이 그 엔진을 그리기만 한다
+     * (화면 밖 BufferedImage에 그리는 벤치마크 등).
+     */
+    SnakeGame(GameSettings settings, GameEngine engine) {
+        this.settings = settings.copy();
+        UNIT_SIZE = settings.getUnitSize();
+        BOARD_WIDTH = settings.getViewColumns() * UNIT_SIZE;
+        BOARD_HEIGHT = settings.getViewRows() * UNIT_SIZE;
+        DELAY = settings.getDelay();
+        history = new SnapshotRing(REWIND_SECONDS * 1000 / DELAY);
+        GAME_TIME = settings.getGameTime();
+        timeLeft = GAME_TIME;
+        appleCount = settings.getAppleCount();
+        background = new BackgroundLayer(BOARD_WIDTH, BOARD_HEIGHT, STATUS_HEIGHT, UNIT_SIZE);
+
         this.setPreferredSize(new Dimension(BOARD_WIDTH, BOARD_HEIGHT + STATUS_HEIGHT));
         this.setBackground(new Color(245, 245, 245)); // 밝은 회색 배경
         this.setFocusable(true);
@@ -57,6 +126,29 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
 
         // 이미지 로드
         loadImages();
+        sprites = new SpriteAtlas(UNIT_SIZE, appleImage, bombImage);
+
+        if (engine != null) {
+            this.engine = engine;
+            updateViewport();
+            previousHeadCell = engine.getHeadCell();
+            timeLeft = engine.getTimeLeft();
+            updateStatusTexts();
+            running = true;
+            return;
+        }
+
+        openHighScores();
+        metrics.register();
+        metricsOverlay = settings.isDebugOverlay();
+
+        if (settings.isActiveRendering()) {
+            // 진행 중에는 캔버스가 패널 전체를 덮고, 일시정지와 게임 오버 화면은 캔버스를 숨기고 Swing으로 그림
+            canvas = new RenderCanvas(settings.getBufferCount());
+            canvas.setBounds(0, 0, BOARD_WIDTH, BOARD_HEIGHT + STATUS_HEIGHT);
+            this.setLayout(null);
+            this.add(canvas);
+        }
 
         // 사과 개수 선택
         selectAppleCount();
@@ -269,93 +361,153 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
     }
 
     public void startGame() {
-        snake = new ArrayList<>();
-        apples = new ArrayList<>(); // 사과 리스트 초기화
+        synchronized (stateLock) {
+            // 뱀, 사과, 폭탄 초기 배치는 엔진이 담당
+            engine = new GameEngine(settings.setAppleCount(appleCount), seeds.nextLong());
+            startRecording();
+            history.clear();
+            history.push(engine);
+            rewound = false;
+            autopilot = createAutopilot();
+            metrics.reset();
+            highScore = bestScore();
+            updateViewport();
+            previousHeadCell = engine.getHeadCell();
+            timeLeft = engine.getTimeLeft();
+            updateStatusTexts();
+            running = true;
+        }
 
-        // 초기 뱀 위치 (3개 세그먼트)
-        snake.add(new Point(0, STATUS_HEIGHT));
-        snake.add(new Point(UNIT_SIZE, STATUS_HEIGHT));
-        snake.add(new Point(UNIT_SIZE * 2, STATUS_HEIGHT));
+        // 이동과 남은 시간 모두 게임 루프의 틱 수로 계산 (Swing Timer 두 개를 대체)
+        loop = new GameLoop(this, DELAY, displayRefreshRate());
+        loop.start();
+        LifecycleEvent.emit("start", 0, null);
+    }
 
-        // 지정된 개수만큼 사과 생성
-        for (int i = 0; i < appleCount; i++) {
-            newApple();
+    // 화면 주사율 (알 수 없으면 60Hz)
+    private static int displayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return 60;
         }
-
-        newBomb();
-        hasBomb = true;
-        timeLeft = GAME_TIME;
-        running = true;
-
-        timer = new Timer(DELAY, this);
-        timer.start();
-
-        // 1초마다 시간 감소
-        gameTimer = new Timer(1000, e -> {
-            timeLeft--;
-            if (timeLeft <= 0) {
-                running = false;
-                gameTimer.stop();
-                gameOver = true;
-            }
-        });
-        gameTimer.start();
+        int rate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? 60 : rate;
     }
 
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        long elapsed = paintFrame((Graphics2D) g);
+        // 능동 렌더링이면 히스토그램은 게임 루프 스레드만 기록 (LatencyHistogram은 쓰는 스레드가 하나여야 함)
+        if (canvas == null) {
+            metrics.paintTime().record(elapsed);
+        }
+    }
+
+    // 능동 렌더링 한 프레임 (게임 루프 스레드, 버퍼를 배경색으로 지운 뒤 전체를 그림)
+    private void paintActiveFrame(Graphics2D g) {
+        g.setColor(getBackground());
+        g.fillRect(0, 0, BOARD_WIDTH, BOARD_HEIGHT + STATUS_HEIGHT);
+        metrics.paintTime().record(paintFrame(g));
+    }
+
+    // 한 프레임을 그리고 걸린 시간(ns)을 돌려줌
+    private long paintFrame(Graphics2D g2d) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        draw(g2d);
+        long start = System.nanoTime();
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        synchronized (stateLock) {
+            drawCalls = 0;
+            draw(g2d);
+        }
+        if (metricsOverlay) {
+            drawMetricsOverlay(g2d);
+        }
+        event.end();
+        long elapsed = System.nanoTime() - start;
+
+        if (event.shouldCommit()) {
+            event.drawCalls = drawCalls;
+            event.clipWidth = clipBounds.width;
+            event.clipHeight = clipBounds.height;
+            event.commit();
+        }
+        return elapsed;
+    }
+
+    // 측정값 오버레이 (게임 영역 왼쪽 위)
+    private void drawMetricsOverlay(Graphics2D g) {
+        String[] lines = metrics.overlayLines();
+        int lineHeight = 16;
+        overlayBounds.y = STATUS_HEIGHT + 8;
+        overlayBounds.height = lines.length * lineHeight + 8;
+        g.setColor(OVERLAY_BACKGROUND);
+        g.fill(overlayBounds);
+        g.setColor(Color.WHITE);
+        g.setFont(OVERLAY_FONT);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], overlayBounds.x + 6, overlayBounds.y + (i + 1) * lineHeight);
+        }
     }
 
     public void draw(Graphics2D g) {
+        // 다시 그릴 영역 (부분 repaint면 바뀐 칸 주변만, 클립이 없으면 전체)
+        Rectangle clip = clipBounds;
+        clip.setBounds(0, 0, BOARD_WIDTH, STATUS_HEIGHT + BOARD_HEIGHT);
+        g.getClipBounds(clip);
+
         // 상태창 그리기
-        drawStatusBar(g);
+        if (clip.y < STATUS_HEIGHT) {
+            drawStatusBar(g);
+        }
 
         if (running) {
-            // 게임 영역 체스판 배경
+            // 게임 영역 체스판 배경과 테두리 (미리 그려 둔 이미지 복사)
             drawChessboardBackground(g);
 
-            // 게임 영역 테두리
-            g.setColor(new Color(150, 150, 150));
-            g.setStroke(new BasicStroke(2));
-            g.drawRect(0, STATUS_HEIGHT, BOARD_WIDTH, BOARD_HEIGHT);
-
-            // 모든 사과 그리기 (이미지 사용)
-            if (appleImage != null) {
-                for (Point apple : apples) {
-                    g.drawImage(appleImage, apple.x, apple.y, null);
-                }
-            }
-
-            // 폭탄 그리기 (이미지 사용)
-            if (hasBomb && bombImage != null) {
-                g.drawImage(bombImage, bomb.x, bomb.y, null);
-            }
-
-            // 뱀 그리기
-            for (int i = 0; i < snake.size(); i++) {
-                if (i == snake.size() - 1) {
-                    // 머리 (하늘색)
-                    drawSnakeSegment(g, snake.get(i).x, snake.get(i).y, new Color(81, 147, 212), true);
-                } else {
-                    // 몸통 (어두운 하늘색)
-                    drawSnakeSegment(g, snake.get(i).x, snake.get(i).y, new Color(61, 129, 197), false);
+            // 뷰포트 안에서 다시 그릴 영역에 걸친 칸만 그림
+            int firstCol = viewX + Math.max(0, clip.x / UNIT_SIZE);
+            int lastCol = Math.min(viewX + settings.getViewColumns(), viewX + (clip.x + clip.width + UNIT_SIZE - 1) / UNIT_SIZE);
+            int firstRow = viewY + Math.max(0, (clip.y - STATUS_HEIGHT) / UNIT_SIZE);
+            int lastRow = Math.min(viewY + settings.getViewRows(), viewY + (clip.y + clip.height - STATUS_HEIGHT + UNIT_SIZE - 1) / UNIT_SIZE);
+            int headCell = engine.getHeadCell();
+            for (int row = firstRow; row < lastRow; row++) {
+                for (int col = firstCol; col < lastCol; col++) {
+                    int x = toPixelX(col);
+                    int y = toPixelY(row);
+                    switch (engine.getCell(col, row)) {
+                        case GameEngine.APPLE:
+                            // 사과 그리기 (스프라이트 사용)
+                            sprites.draw(g, getGraphicsConfiguration(), SpriteAtlas.APPLE, x, y);
+                            drawCalls++;
+                            break;
+                        case GameEngine.BOMB:
+                            // 폭탄 그리기 (스프라이트 사용)
+                            sprites.draw(g, getGraphicsConfiguration(), SpriteAtlas.BOMB, x, y);
+                            drawCalls++;
+                            break;
+                        case GameEngine.SNAKE:
+                            // 머리는 아래에서 보간된 위치에 따로 그림
+                            if (row * engine.getColumns() + col != headCell) {
+                                drawSnakeSegment(g, x, y, false);
+                            }
+                            break;
+                    }
                 }
             }
+            drawInterpolatedHead(g, headCell);
         } else {
             gameOver(g);
         }
 
         if (paused) {
             // 반투명한 오버레이 추가
-            g.setColor(new Color(0, 0, 0, 100));
+            g.setColor(PAUSE_OVERLAY_COLOR);
             g.fillRect(0, STATUS_HEIGHT, BOARD_WIDTH, BOARD_HEIGHT);
 
             // "일시정지" 텍스트 표시
             g.setColor(Color.WHITE);
-            g.setFont(new Font("맑은 고딕", Font.BOLD, 32));
+            g.setFont(LARGE_FONT);
             FontMetrics metrics = g.getFontMetrics();
             String pauseText = "일시정지";
             g.drawString(pauseText,
@@ -364,49 +516,36 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
         }
     }
 
-    public void drawChessboardBackground(Graphics2D g) {
-        Color lightColor = new Color(143, 214, 143); // 연두색
-        Color darkColor = new Color(165, 250, 165);  // 초록색
-
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                // 체스판 패턴 (짝수+짝수 = 밝은색, 홀수+홀수 = 밝은색)
-                if ((row + col) % 2 == 0) {
-                    g.setColor(lightColor);
-                } else {
-                    g.setColor(darkColor);
-                }
-
-                int x = col * UNIT_SIZE;
-                int y = STATUS_HEIGHT + row * UNIT_SIZE;
-                g.fillRect(x, y, UNIT_SIZE, UNIT_SIZE);
+    // 머리를 직전 칸에서 현재 칸으로 renderAlpha만큼 옮긴 위치에 그림
+    private void drawInterpolatedHead(Graphics2D g, int headCell) {
+        int x = toPixelX(engine.cellX(headCell));
+        int y = toPixelY(engine.cellY(headCell));
+        if (previousHeadCell >= 0 && previousHeadCell != headCell) {
+            int fromX = toPixelX(engine.cellX(previousHeadCell));
+            int fromY = toPixelY(engine.cellY(previousHeadCell));
+            // 바로 옆 칸으로 움직였을 때만 보간 (스크롤 등으로 멀리 떨어지면 그대로)
+            if (Math.abs(x - fromX) + Math.abs(y - fromY) == UNIT_SIZE) {
+                double alpha = renderAlpha;
+                x = fromX + (int) Math.round((x - fromX) * alpha);
+                y = fromY + (int) Math.round((y - fromY) * alpha);
             }
         }
+        drawSnakeSegment(g, x, y, true);
     }
 
-    public void drawStatusBar(Graphics2D g) {
-        // 상태창 배경 (그라데이션)
-        GradientPaint gradient = new GradientPaint(0, 0, new Color(63, 81, 181), 0, STATUS_HEIGHT, new Color(125, 100, 237));
-        g.setPaint(gradient);
-        g.fillRect(0, 0, BOARD_WIDTH, STATUS_HEIGHT);
+    public void drawChessboardBackground(Graphics2D g) {
+        background.paintBoard(g, getGraphicsConfiguration(), (viewX + viewY) % 2);
+    }
 
-        // 상태창 테두리
-        g.setColor(new Color(48, 63, 159));
-        g.setStroke(new BasicStroke(2));
-        g.drawRect(0, 0, BOARD_WIDTH, STATUS_HEIGHT);
+    public void drawStatusBar(Graphics2D g) {
+        // 상태창 배경과 테두리 (미리 그려 둔 이미지 복사)
+        background.paintStatusBar(g, getGraphicsConfiguration());
 
         // 텍스트 정보
         g.setColor(Color.WHITE);
 
         // 한글 폰트 설정 (크기 증가)
-        Font koreanFont = new Font("맑은 고딕", Font.BOLD, 24); // 18에서 24로 증가
-        if (!koreanFont.getFamily().equals("맑은 고딕")) {
-            koreanFont = new Font("굴림", Font.BOLD, 24);
-            if (!koreanFont.getFamily().equals("굴림")) {
-                koreanFont = new Font(Font.SANS_SERIF, Font.BOLD, 24);
-            }
-        }
-        g.setFont(koreanFont);
+        g.setFont(MEDIUM_FONT);
 
         FontMetrics fm = g.getFontMetrics();
         int textHeight = fm.getHeight();
@@ -422,19 +561,16 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
         if (scoreIcon != null) {
             g.drawImage(scoreIcon, scoreX, iconYPos, iconSize, iconSize, null);
         }
-        String scoreText = String.valueOf(score);
         g.drawString(scoreText, scoreX + iconSize + 15, yPos); // 간격 증가
 
         // 2. 최고점수 (가운데) - 왼쪽으로 5픽셀 이동
-        int highScoreX = sectionWidth + (sectionWidth - iconSize - fm.stringWidth(String.valueOf(highScore)) - 15) / 2 - 5;
+        int highScoreX = sectionWidth + (sectionWidth - iconSize - fm.stringWidth(highScoreText) - 15) / 2 - 5;
         if (trophyIcon != null) {
             g.drawImage(trophyIcon, highScoreX, iconYPos, iconSize, iconSize, null);
         }
-        String highScoreText = String.valueOf(highScore);
         g.drawString(highScoreText, highScoreX + iconSize + 15, yPos); // 간격 증가
 
         // 3. 남은시간 (오른쪽)
-        String timeText = formatTime(timeLeft);
         int timeWidth = fm.stringWidth(timeText);
         int timeX = BOARD_WIDTH - timeWidth - iconSize - 40; // 여백 증가
         if (timeIcon != null) {
@@ -443,25 +579,28 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
         g.drawString(timeText, timeX + iconSize + 15, yPos); // 간격 증가
     }
 
-    public void drawSnakeSegment(Graphics2D g, int x, int y, Color baseColor, boolean isHead) {
-        // 뱀 세그먼트 그라데이션
-        Color lightColor = new Color(
-                Math.min(255, baseColor.getRed() + 30),
-                Math.min(255, baseColor.getGreen() + 30),
-                Math.min(255, baseColor.getBlue() + 30)
-        );
+    public void drawSnakeSegment(Graphics2D g, int x, int y, boolean isHead) {
+        sprites.draw(g, getGraphicsConfiguration(), isHead ? SpriteAtlas.HEAD : SpriteAtlas.BODY, x, y);
+        drawCalls++;
+    }
 
-        GradientPaint segmentGradient = new GradientPaint(
-                x, y, lightColor,
-                x + UNIT_SIZE, y + UNIT_SIZE, baseColor
-        );
-        g.setPaint(segmentGradient);
-        g.fillRoundRect(x + 2, y + 2, UNIT_SIZE - 4, UNIT_SIZE - 4, 12, 12);
+    // "맑은 고딕" -> "굴림" -> 기본 산세리프 순서로 사용 가능한 한글 폰트 (클래스 로딩 시 한 번만)
+    private static Font resolveKoreanFont(int size) {
+        Font font = new Font("맑은 고딕", Font.BOLD, size);
+        if (!font.getFamily().equals("맑은 고딕")) {
+            font = new Font("굴림", Font.BOLD, size);
+            if (!font.getFamily().equals("굴림")) {
+                font = new Font(Font.SANS_SERIF, Font.BOLD, size);
+            }
+        }
+        return font;
+    }
 
-        // 테두리
-        g.setColor(new Color(baseColor.getRed() - 20, baseColor.getGreen() - 20, baseColor.getBlue() - 20));
-        g.setStroke(new BasicStroke(2));
-        g.drawRoundRect(x + 2, y + 2, UNIT_SIZE - 4, UNIT_SIZE - 4, 12, 12);
+    // 상태창 문자열 갱신 (점수나 시간이 바뀔 때만 호출)
+    private void updateStatusTexts() {
+        scoreText = String.valueOf(score);
+        highScoreText = String.valueOf(highScore);
+        timeText = formatTime(timeLeft);
     }
 
     public String formatTime(int seconds) {
@@ -470,263 +609,378 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
         return String.format("%d:%02d", minutes, secs);
     }
 
-    public void newApple() {
-        int x, y;
-        do {
-            x = random.nextInt(GRID_SIZE) * UNIT_SIZE;
-            y = random.nextInt(GRID_SIZE) * UNIT_SIZE + STATUS_HEIGHT;
-        } while (isPositionOccupied(x, y));
-
-        apples.add(new Point(x, y));
+    // 격자 칸 좌표 -> 화면 픽셀 좌표 (뷰포트 기준)
+    private int toPixelX(int col) {
+        return (col - viewX) * UNIT_SIZE;
     }
 
-    public void newBomb() {
-        int x, y;
-        do {
-            x = random.nextInt(GRID_SIZE) * UNIT_SIZE;
-            y = random.nextInt(GRID_SIZE) * UNIT_SIZE + STATUS_HEIGHT;
-        } while (isPositionOccupied(x, y));
-
-        bomb = new Point(x, y);
-        hasBomb = true;
+    private int toPixelY(int row) {
+        return STATUS_HEIGHT + (row - viewY) * UNIT_SIZE;
     }
 
-    public void moveBomb() {
-        if (!hasBomb) return;
-
-        int x, y;
-        do {
-            x = random.nextInt(GRID_SIZE) * UNIT_SIZE;
-            y = random.nextInt(GRID_SIZE) * UNIT_SIZE + STATUS_HEIGHT;
-        } while (isPositionOccupied(x, y));
-
-        bomb = new Point(x, y);
+    // 머리가 뷰포트 가운데에 오도록 스크롤 (판 밖으로는 나가지 않음)
+    private void updateViewport() {
+        int head = engine.getHeadCell();
+        int viewColumns = settings.getViewColumns();
+        int viewRows = settings.getViewRows();
+        viewX = Math.max(0, Math.min(engine.cellX(head) - viewColumns / 2, engine.getColumns() - viewColumns));
+        viewY = Math.max(0, Math.min(engine.cellY(head) - viewRows / 2, engine.getRows() - viewRows));
     }
 
-    public boolean isPositionOccupied(int x, int y) {
-        Point pos = new Point(x, y);
-
-        // 뱀 몸통과 겹치는지 확인
-        for (Point segment : snake) {
-            if (segment.equals(pos)) {
-                return true;
+    // 한 틱의 결과를 화면 상태에 반영
+    private void applyStepResult(StepResult result) {
+        lastResult = result;
+        if (score != engine.getScore() || timeLeft != engine.getTimeLeft()) {
+            score = engine.getScore();
+            timeLeft = engine.getTimeLeft();
+            if (score > highScore) {
+                highScore = score;
             }
+            updateStatusTexts();
         }
 
-        // 모든 사과와 겹치는지 확인
-        for (Point apple : apples) {
-            if (apple.equals(pos)) {
-                return true;
-            }
+        if (result.isFatal()) {
+            running = false;
+            loop.pause();
+            gameOver = true;
+            finishRecording();
+            saveScore();
+            dumpMetrics();
+            showCanvas(false);
+            LifecycleEvent.emit("gameOver", score, result.name());
         }
+    }
 
-        // 폭탄과 겹치는지 확인
-        if (hasBomb && bomb != null && bomb.equals(pos)) {
-            return true;
+    // 능동 렌더링 캔버스를 보이거나 숨김 (숨기면 그 아래 Swing 화면이 그려짐)
+    private void showCanvas(boolean visible) {
+        if (canvas == null) return;
+        if (EventQueue.isDispatchThread()) {
+            canvas.setVisible(visible);
+            repaint();
+        } else {
+            EventQueue.invokeLater(() -> showCanvas(visible));
         }
-
-        return false;
     }
 
-    public void move() {
-        Point head = new Point(snake.get(snake.size() - 1));
-
-        switch (direction) {
-            case 'U':
-                head.y -= UNIT_SIZE;
-                break;
-            case 'D':
-                head.y += UNIT_SIZE;
-                break;
-            case 'L':
-                head.x -= UNIT_SIZE;
-                break;
-            case 'R':
-                head.x += UNIT_SIZE;
-                break;
+    // 이번 판의 측정값 보고서를 파일로 남김
+    private void dumpMetrics() {
+        String directory = settings.getMetricsDirectory();
+        if (directory == null || directory.isEmpty()) return;
+        String name = String.format("metrics-%tY%<tm%<td-%<tH%<tM%<tS-%016x.txt",
+                System.currentTimeMillis(), engine.getSeed());
+        try {
+            metrics.dump(Paths.get(directory, name));
+        } catch (IOException e) {
+            System.out.println("측정값 저장 실패: " + e.getMessage());
         }
+    }
 
-        snake.add(head);
-
-        // 모든 사과와 충돌 확인
-        Point eatenApple = null;
-        for (Point apple : apples) {
-            if (head.equals(apple)) {
-                eatenApple = apple;
-                break;
-            }
+    // 설정에 정책이 있으면 판마다 새 정책 객체를 만듦 (정책은 판 시작부터 움직인다고 가정)
+    private SnakeController createAutopilot() {
+        String bot = settings.getBot();
+        if (bot == null || bot.isEmpty()) return null;
+        try {
+            return Controllers.byName(bot).get();
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return null;
         }
+    }
 
-        if (eatenApple != null) {
-            // 사과를 먹었을 때
-            score++;
-            if (score > highScore) {
-                highScore = score;
-            }
+    private void openHighScores() {
+        String file = settings.getScoreFile();
+        if (file == null || file.isEmpty()) return;
 
-            // 먹은 사과 제거
-            apples.remove(eatenApple);
+        try {
+            highScores = new HighScoreStore(Paths.get(file), 10);
+        } catch (IOException e) {
+            System.out.println("최고 점수 파일을 열 수 없습니다: " + e.getMessage());
+        }
+    }
 
-            // 새 사과 생성
-            newApple();
+    // 현재 설정의 최고 점수 (저장소가 없으면 이번 실행 중의 최고 점수)
+    private int bestScore() {
+        if (highScores == null) return highScore;
+        return highScores.getBestScore(appleCount, engine.getColumns(), engine.getRows());
+    }
 
-            // 폭탄이 없으면 생성, 있으면 이동
-            if (!hasBomb) {
-                newBomb();
-            } else {
-                moveBomb();
-            }
-        } else {
-            // 사과를 먹지 않았으면 꼬리 제거
-            snake.remove(0);
+    // 끝난 게임을 기록
+    private void saveScore() {
+        if (highScores == null || rewound) return;
+        try {
+            highScores.append(new ScoreRecord(System.currentTimeMillis(), engine.getSeed(), engine.getScore(),
+                    appleCount, engine.getColumns(), engine.getRows(), (int) (engine.getTickCount() * DELAY)));
+        } catch (IOException e) {
+            System.out.println("점수 저장 실패: " + e.getMessage());
         }
     }
 
-    public void checkCollisions() {
-        Point head = snake.get(snake.size() - 1);
-
-        // 자기 몸과 충돌 확인
-        for (int i = 0; i < snake.size() - 1; i++) {
-            if (head.equals(snake.get(i))) {
-                running = false;
+    // 엔진을 한 틱 진행 (기록 중이면 입력도 함께 기록)
+    private StepResult step(char direction) {
+        if (recorder != null) {
+            try {
+                return recorder.step(engine, direction);
+            } catch (IOException e) {
+                System.out.println("리플레이 기록 실패: " + e.getMessage());
+                closeRecorder();
             }
         }
+        return engine.step(direction);
+    }
 
-        // 벽과 충돌 확인
-        if (head.x < 0 || head.x >= BOARD_WIDTH ||
-                head.y < STATUS_HEIGHT || head.y >= BOARD_HEIGHT + STATUS_HEIGHT) {
-            running = false;
+    // 새 판의 리플레이 기록 시작 (stateLock 안에서 엔진을 만든 직후 호출)
+    private void startRecording() {
+        String directory = settings.getReplayDirectory();
+        if (directory == null || directory.isEmpty()) return;
+
+        try {
+            Path dir = Paths.get(directory);
+            Files.createDirectories(dir);
+            String name = String.format("snake-%tY%<tm%<td-%<tH%<tM%<tS-%016x.snkr",
+                    System.currentTimeMillis(), engine.getSeed());
+            recorder = new ReplayWriter(dir.resolve(name), settings, engine.getSeed());
+        } catch (IOException e) {
+            System.out.println("리플레이 파일을 만들 수 없습니다: " + e.getMessage());
+            recorder = null;
         }
+    }
 
-        // 폭탄과 충돌 확인
-        if (hasBomb && head.equals(bomb)) {
-            running = false;
+    // 현재 판의 최종 상태를 기록하고 리플레이 파일을 닫음
+    private void finishRecording() {
+        if (recorder == null) return;
+        try {
+            recorder.finish(engine, lastResult);
+        } catch (IOException e) {
+            System.out.println("리플레이 저장 실패: " + e.getMessage());
         }
+        recorder = null;
+    }
 
-        if (!running) {
-            timer.stop();
-            gameTimer.stop();
-            gameOver = true;
+    private void closeRecorder() {
+        try {
+            recorder.close();
+        } catch (IOException ignored) {
+            // 이미 기록에 실패한 파일
         }
+        recorder = null;
     }
 
     public void gameOver(Graphics2D g) {
         // 게임 영역을 반투명하게
-        g.setColor(new Color(255, 255, 255, 220));
+        g.setColor(GAME_OVER_OVERLAY_COLOR);
         g.fillRect(0, STATUS_HEIGHT, BOARD_WIDTH, BOARD_HEIGHT);
 
-        // 한글 폰트 설정
-        Font koreanFont = new Font("맑은 고딕", Font.BOLD, 24);
-        if (!koreanFont.getFamily().equals("맑은 고딕")) {
-            koreanFont = new Font("굴림", Font.BOLD, 24);
-            if (!koreanFont.getFamily().equals("굴림")) {
-                koreanFont = new Font(Font.SANS_SERIF, Font.BOLD, 24);
-            }
-        }
-
         // 최종 점수
-        g.setColor(new Color(244, 67, 54));
-        g.setFont(koreanFont);
+        g.setColor(FINAL_SCORE_COLOR);
+        g.setFont(MEDIUM_FONT);
         FontMetrics metrics1 = g.getFontMetrics();
-        String scoreText = timeLeft <= 0 ? "시간 종료! 점수: " + score : "게임 오버! 점수: " + score;
+        String scoreText = getEndTitle() + " 점수: " + score;
         g.drawString(scoreText, (BOARD_WIDTH - metrics1.stringWidth(scoreText)) / 2,
                 STATUS_HEIGHT + 80);
 
         // Game Over 텍스트
-        Font bigFont = new Font("맑은 고딕", Font.BOLD, 32);
-        if (!bigFont.getFamily().equals("맑은 고딕")) {
-            bigFont = new Font("굴림", Font.BOLD, 32);
-            if (!bigFont.getFamily().equals("굴림")) {
-                bigFont = new Font(Font.SANS_SERIF, Font.BOLD, 32);
-            }
-        }
-        g.setColor(new Color(63, 81, 181));
-        g.setFont(bigFont);
+        g.setColor(GAME_OVER_TITLE_COLOR);
+        g.setFont(LARGE_FONT);
         FontMetrics metrics2 = g.getFontMetrics();
-        String gameOverText = timeLeft <= 0 ? "시간 종료!" : "게임 오버!";
+        String gameOverText = getEndTitle();
         g.drawString(gameOverText, (BOARD_WIDTH - metrics2.stringWidth(gameOverText)) / 2,
                 STATUS_HEIGHT + BOARD_HEIGHT / 2);
 
         // 재시작 안내
-        Font smallFont = new Font("맑은 고딕", Font.BOLD, 16);
-        if (!smallFont.getFamily().equals("맑은 고딕")) {
-            smallFont = new Font("굴림", Font.BOLD, 16);
-            if (!smallFont.getFamily().equals("굴림")) {
-                smallFont = new Font(Font.SANS_SERIF, Font.BOLD, 16);
-            }
-        }
-        g.setColor(new Color(96, 125, 139));
-        g.setFont(smallFont);
+        g.setColor(RESTART_HINT_COLOR);
+        g.setFont(SMALL_FONT);
         FontMetrics metrics3 = g.getFontMetrics();
-        String restartText = "스페이스바를 눌러 재시작";
+        String restartText = "스페이스바를 눌러 재시작, 백스페이스로 되감기";
         g.drawString(restartText, (BOARD_WIDTH - metrics3.stringWidth(restartText)) / 2,
                 STATUS_HEIGHT + BOARD_HEIGHT / 2 + 50);
     }
 
-    public void restartGame() {
-        score = 0;
-        direction = 'R';
-        gameOver = false;
-        hasBomb = false;
-        timeLeft = GAME_TIME;
-        snake.clear();
-        apples.clear(); // 사과 리스트 초기화
+    // 게임이 끝난 사유에 맞는 제목
+    private String getEndTitle() {
+        if (lastResult == StepResult.TIME_UP) return "시간 종료!";
+        if (lastResult == StepResult.WON) return "완벽한 승리!";
+        if (lastResult == StepResult.STALEMATE) return "판이 가득 찼습니다!";
+        return "게임 오버!";
+    }
 
-        snake.add(new Point(0, STATUS_HEIGHT));
-        snake.add(new Point(UNIT_SIZE, STATUS_HEIGHT));
-        snake.add(new Point(UNIT_SIZE * 2, STATUS_HEIGHT));
+    public void restartGame() {
+        loop.pause();
 
         // 사과 개수 다시 선택
         selectAppleCount();
 
-        // 지정된 개수만큼 사과 생성
-        for (int i = 0; i < appleCount; i++) {
-            newApple();
+        synchronized (stateLock) {
+            finishRecording(); // 이전 판이 끝나기 전에 재시작한 경우
+            score = 0;
+            input.reset('R'); // 게임 루프가 멈춘 상태라 안전
+            gameOver = false;
+            lastResult = StepResult.MOVED;
+
+            // 새 설정으로 엔진 초기화
+            engine = new GameEngine(settings.setAppleCount(appleCount), seeds.nextLong());
+            startRecording();
+            history.clear();
+            history.push(engine);
+            rewound = false;
+            autopilot = createAutopilot();
+            metrics.reset();
+            highScore = bestScore();
+            updateViewport();
+            previousHeadCell = engine.getHeadCell();
+            timeLeft = engine.getTimeLeft();
+            updateStatusTexts();
+
+            running = true;
+            paused = false;
         }
+        showCanvas(true);
+        loop.resume();
+        repaint();
+        LifecycleEvent.emit("restart", 0, null);
+    }
+
+    // 게임 루프 스레드에서 고정 간격으로 호출되는 한 틱
+    @Override
+    public void tick() {
+        long start = System.nanoTime();
+        TickEvent event = new TickEvent(); // JFR이 꺼져 있으면 JIT가 객체 생성을 없앰
+        event.begin();
+        StepResult result = advance();
+        event.end();
+        metrics.tickTime().record(System.nanoTime() - start);
+
+        if (result != null && event.shouldCommit()) {
+            event.tick = engine.getTickCount();
+            event.length = engine.getLength();
+            event.applesEaten = engine.getScore();
+            event.freeCells = engine.getFreeCellCount();
+            event.result = result.name();
+            event.commit();
+        }
+    }
+
+    // 한 틱 진행, 진행하지 않았으면 null
+    private StepResult advance() {
+        synchronized (stateLock) {
+            if (!running || paused) {
+                return null;
+            }
+
+            int oldScore = score;
+            int oldTimeLeft = timeLeft;
+            int oldViewX = viewX;
+            int oldViewY = viewY;
+            previousHeadCell = engine.getHeadCell();
+            char next = autopilot != null ? autopilot.nextDirection(engine) : input.poll();
+            if (next != 0 && autopilot == null) {
+                metrics.inputLatency().record(input.getLastLatencyNanos());
+            }
+            applyStepResult(step(next != 0 ? next : engine.getDirection()));
+            if (running) {
+                history.push(engine);
+            }
+            updateViewport();
 
-        running = true;
-        paused = false;
-        timer.restart();
-        gameTimer.restart();
+            if (canvas != null && running) {
+                // 능동 렌더링 중에는 다음 render()가 전체를 그림
+                return lastResult;
+            }
+            if (!running || viewX != oldViewX || viewY != oldViewY) {
+                // 게임 오버 화면이나 스크롤은 전체를 다시 그림
+                repaint();
+                return lastResult;
+            }
+            repaintChanges(engine.getChanges());
+            if (score != oldScore || timeLeft != oldTimeLeft) {
+                repaintStatusBar();
+            }
+            return lastResult;
+        }
     }
 
+    // 게임 루프 스레드에서 화면 주사율로 호출, 머리가 움직이는 두 칸만 다시 그림
     @Override
-    public void actionPerformed(ActionEvent e) {
-        if (running) {
-            move();
-            checkCollisions();
+    public void render(double alpha) {
+        renderAlpha = alpha;
+        metrics.sample();
+        if (canvas != null) {
+            if (running && !paused) {
+                canvas.render(activePainter);
+            }
+            return;
         }
-        repaint();
+        if (metricsOverlay && System.nanoTime() - overlayRepaintAt >= OVERLAY_REFRESH_NANOS) {
+            overlayRepaintAt = System.nanoTime();
+            repaint(overlayBounds);
+        }
+        synchronized (stateLock) {
+            if (!running || paused || previousHeadCell < 0) {
+                return;
+            }
+            int head = engine.getHeadCell();
+            int x = Math.min(toPixelX(engine.cellX(head)), toPixelX(engine.cellX(previousHeadCell)));
+            int y = Math.min(toPixelY(engine.cellY(head)), toPixelY(engine.cellY(previousHeadCell)));
+            int w = Math.abs(engine.cellX(head) - engine.cellX(previousHeadCell)) * UNIT_SIZE + UNIT_SIZE;
+            int h = Math.abs(engine.cellY(head) - engine.cellY(previousHeadCell)) * UNIT_SIZE + UNIT_SIZE;
+            repaint(x, y, w, h);
+        }
+    }
+
+    // 이번 틱에 바뀐 칸만 다시 그리도록 요청
+    private void repaintChanges(ChangeSet changes) {
+        if (changes.isAll()) {
+            repaint();
+            return;
+        }
+        for (int i = 0; i < changes.size(); i++) {
+            int cell = changes.get(i);
+            int col = engine.cellX(cell);
+            int row = engine.cellY(cell);
+            if (col >= viewX && col < viewX + settings.getViewColumns()
+                    && row >= viewY && row < viewY + settings.getViewRows()) {
+                repaint(toPixelX(col), toPixelY(row), UNIT_SIZE, UNIT_SIZE);
+            }
+        }
+    }
+
+    private void repaintStatusBar() {
+        repaint(0, 0, BOARD_WIDTH, STATUS_HEIGHT);
     }
 
     @Override
     public void keyPressed(KeyEvent e) {
         switch (e.getKeyCode()) {
+            // 역방향 검사는 InputQueue가 마지막으로 넣은 입력 기준으로 함
             case KeyEvent.VK_LEFT:
-                if (direction != 'R') {
-                    direction = 'L';
-                }
+                queueDirection('L');
                 break;
             case KeyEvent.VK_RIGHT:
-                if (direction != 'L') {
-                    direction = 'R';
-                }
+                queueDirection('R');
                 break;
             case KeyEvent.VK_UP:
-                if (direction != 'D') {
-                    direction = 'U';
-                }
+                queueDirection('U');
                 break;
             case KeyEvent.VK_DOWN:
-                if (direction != 'U') {
-                    direction = 'D';
-                }
+                queueDirection('D');
                 break;
             case KeyEvent.VK_SPACE:
                 if (gameOver) {
                     restartGame();
                 }
                 break;
+            case KeyEvent.VK_F3:
+                metricsOverlay = !metricsOverlay;
+                repaint();
+                break;
+            case KeyEvent.VK_BACK_SPACE:
+                rewind();
+                break;
+            case KeyEvent.VK_F5:
+                saveState();
+                break;
+            case KeyEvent.VK_F9:
+                loadState();
+                break;
             case KeyEvent.VK_ESCAPE:
                 if(running) {
                     pauseGame();
@@ -735,13 +989,111 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
         }
     }
 
+    // 1초 전 상태로 되감음 (게임 오버 화면에서도 가능)
+    private void rewind() {
+        if (paused || engine == null) return;
+        boolean wasOver;
+        synchronized (stateLock) {
+            wasOver = gameOver;
+            if (history.size() == 0) return;
+            endRecordingBeforeRestore();
+            history.rewind(engine, Math.max(1, REWIND_STEP_MILLIS / DELAY));
+            resumeFromSnapshot();
+        }
+        afterRestore(wasOver, "rewind");
+    }
+
+    // 현재 상태를 파일로 저장 (진행 중일 때만)
+    private void saveState() {
+        String file = settings.getSaveFile();
+        if (file == null || file.isEmpty() || !running || paused || gameOver) return;
+        synchronized (stateLock) {
+            engine.save(saveSlot);
+        }
+        try {
+            saveSlot.write(Paths.get(file));
+        } catch (IOException e) {
+            System.out.println("저장 실패: " + e.getMessage());
+        }
+    }
+
+    // 저장 파일의 상태로 되돌림 (판 크기가 같아야 함)
+    private void loadState() {
+        String file = settings.getSaveFile();
+        if (file == null || file.isEmpty() || paused || engine == null) return;
+        GameSnapshot snapshot;
+        try {
+            snapshot = GameSnapshot.read(Paths.get(file));
+        } catch (IOException e) {
+            System.out.println("불러오기 실패: " + e.getMessage());
+            return;
+        }
+        boolean wasOver;
+        synchronized (stateLock) {
+            wasOver = gameOver;
+            endRecordingBeforeRestore();
+            try {
+                engine.restore(snapshot);
+            } catch (IllegalArgumentException e) {
+                System.out.println("불러오기 실패: " + e.getMessage());
+                return;
+            }
+            history.clear();
+            history.push(engine);
+            resumeFromSnapshot();
+        }
+        afterRestore(wasOver, "load");
+    }
+
+    // 엔진을 되돌리기 직전에 리플레이를 끝냄 (stateLock 안에서, 꼬리말에 입력이 실제로 이른 상태를 남기도록)
+    private void endRecordingBeforeRestore() {
+        if (!rewound) {
+            finishRecording();
+            rewound = true;
+        }
+    }
+
+    // 되돌린 엔진 상태에 화면 상태를 맞춤 (stateLock 안에서)
+    private void resumeFromSnapshot() {
+        input.reset(engine.getDirection()); // 게임 루프는 stateLock을 기다리므로 입력을 꺼내지 않음
+        score = engine.getScore();
+        timeLeft = engine.getTimeLeft();
+        lastResult = StepResult.MOVED;
+        gameOver = false;
+        running = engine.isRunning();
+        previousHeadCell = engine.getHeadCell();
+        updateViewport();
+        updateStatusTexts();
+    }
+
+    private void afterRestore(boolean wasOver, String event) {
+        if (wasOver) {
+            showCanvas(true);
+            loop.resume();
+        }
+        repaint();
+        LifecycleEvent.emit(event, score, null);
+    }
+
+    private void queueDirection(char direction) {
+        if (running && !paused && autopilot == null) {
+            input.offer(direction);
+        }
+    }
+
+    // 입력 대기열 (입력 지연 측정값 조회용)
+    public InputQueue getInputQueue() {
+        return input;
+    }
+
     // pauseGame 메소드 구현
     public void pauseGame() {
         if (!gameOver) {
             if (!paused) {
                 paused = true;
-                timer.stop();
-                gameTimer.stop();
+                loop.pause();
+                showCanvas(false);
+                LifecycleEvent.emit("pause", score, null);
 
                 // 일시정지 패널 생성
                 pausePanel = new JPanel();
@@ -752,7 +1104,7 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
 
                 // 버튼 스타일 설정을 위한 공통 메소드
                 Consumer<JButton> styleButton = button -> {
-                    button.setFont(new Font("맑은 고딕", Font.BOLD, 16));
+                    button.setFont(SMALL_FONT);
                     button.setBackground(new Color(63, 81, 181));
                     button.setForeground(Color.WHITE);
                     button.setFocusPainted(false);
@@ -801,8 +1153,9 @@ public class SnakeGame extends JPanel implements ActionListener, KeyListener {
         if (paused) {
             paused = false;
             removeButtons();
-            timer.start();
-            gameTimer.start();
+            showCanvas(true);
+            loop.resume();
+            LifecycleEvent.emit("resume", score, null);
         }
     }
 
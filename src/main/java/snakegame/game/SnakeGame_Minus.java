@@ -2,11 +2,100 @@ package snakegame.game;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
 import java.util.LinkedList;
 
 public class SnakeGame_Minus {
 
+    /**
+     * Whole game grid drawn as one component.
+     * Cells are written straight into the pixel array of a BufferedImage,
+     * and only the cells whose map value changed are repainted.
+     */
+    static class GridCanvas extends JComponent {
+        static final int BLANK = 0;
+        static final int SNAKE = 1;
+        static final int BOMB = 8;
+        static final int FRUIT = 9;
+
+        private final int rows;
+        private final int columns;
+        private final int cellSize;
+        private final BufferedImage image;
+        private final int[] pixels; // image pixels (ARGB), written directly
+        private final int[] shown;  // map value currently drawn for each cell, -1 = not drawn yet
+        private final int[] palette = new int[10];
+
+        public GridCanvas(int rows, int columns, int cellSize) {
+            this.rows = rows;
+            this.columns = columns;
+            this.cellSize = cellSize;
+            this.image = new BufferedImage(columns * cellSize, rows * cellSize, BufferedImage.TYPE_INT_RGB);
+            this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            this.shown = new int[rows * columns];
+            Arrays.fill(shown, -1);
+
+            palette[BLANK] = Color.GREEN.getRGB();
+            palette[SNAKE] = Color.DARK_GRAY.getRGB();
+            palette[BOMB] = Color.BLACK.getRGB();
+            palette[FRUIT] = Color.RED.getRGB();
+
+            this.setPreferredSize(new Dimension(columns * cellSize, rows * cellSize));
+            this.setOpaque(true);
+        }
+
+        // Redraw the cells of map[][] that differ from what is on screen
+        public void update(int[][] map) {
+            int minRow = rows, maxRow = -1, minCol = columns, maxCol = -1;
+            for (int i = 0; i < rows; i++) {
+                int[] line = map[i];
+                for (int j = 0; j < columns; j++) {
+                    if (shown[i * columns + j] != line[j]) {
+                        fillCell(i, j, line[j]);
+                        minRow = Math.min(minRow, i);
+                        maxRow = Math.max(maxRow, i);
+                        minCol = Math.min(minCol, j);
+                        maxCol = Math.max(maxCol, j);
+                    }
+                }
+            }
+            if (maxRow >= 0) {
+                repaint(minCol * cellSize, minRow * cellSize,
+                        (maxCol - minCol + 1) * cellSize, (maxRow - minRow + 1) * cellSize);
+            }
+        }
+
+        // Change one cell (when the caller already knows which cell changed)
+        public void setCell(int row, int column, int value) {
+            if (shown[row * columns + column] == value) return;
+            fillCell(row, column, value);
+            repaint(column * cellSize, row * cellSize, cellSize, cellSize);
+        }
+
+        private void fillCell(int row, int column, int value) {
+            shown[row * columns + column] = value;
+            int color = palette[value];
+            int width = columns * cellSize;
+            int start = row * cellSize * width + column * cellSize;
+            for (int y = 0; y < cellSize; y++) {
+                int offset = start + y * width;
+                Arrays.fill(pixels, offset, offset + cellSize, color);
+            }
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            // Only the clip (changed cells) is actually copied
+            g.drawImage(image, 0, 0, null);
+        }
+    }
+
     static class GameFrame extends JFrame {
+        static final int ROWS = 20;
+        static final int COLUMNS = 20;
+        static final int CELL_SIZE = 20;
 
         static class XY {
             int x;
@@ -20,8 +109,8 @@ public class SnakeGame_Minus {
         static JPanel panelGame;
         static JLabel labelTitle;
         static JLabel labelMessage;
-        static JPanel[][] panels = new JPanel[20][20];
-        static int[][] map = new int[20][20]; // Fruit 9, Bomb 8, 0 Blank
+        static GridCanvas grid;
+        static int[][] map = new int[ROWS][COLUMNS]; // Fruit 9, Bomb 8, Snake 1, 0 Blank
         static LinkedList<XY> snake = new LinkedList<>();
         static int dir = 3; // move direction 0:up 1:down 2:left 3:right
         static int score = 0;
@@ -70,17 +159,16 @@ public class SnakeGame_Minus {
 
             this.add(panelTitle);
 
-            panelGame = new JPanel();
-            panelGame.setLayout(new GridLayout(20, 20));
-            for (int i = 0; i < 20; i++) { // i Loop : Row
-                for (int j = 0; j < 20; j++) { // j Loop : Column
+            for (int i = 0; i < ROWS; i++) { // i Loop : Row
+                for (int j = 0; j < COLUMNS; j++) { // j Loop : Column
                     map[i][j] = 0; // init 0 : Blank
-                    panels[i][j] = new JPanel();
-                    panels[i][j].setPreferredSize(new Dimension(20, 20));
-                    panels[i][j].setBackground(Color.GREEN);
-                    panelGame.add(panels[i][j]);
                 }
             }
+            grid = new GridCanvas(ROWS, COLUMNS, CELL_SIZE);
+            grid.update(map);
+
+            panelGame = new JPanel(new BorderLayout());
+            panelGame.add(grid);
             this.add(panelGame);
             this.pack(); // Remove Empty Space
         }
@@ -0,0 +1,54 @@
+package snakegame.game;
+
+/**
+ * 최근 스냅숏을 고정 개수만큼 들고 있는 링 (되감기용).
+ * 슬롯 객체를 처음에 모두 만들어 두고 돌려 쓰므로 틱마다 저장해도 할당이 없다.
+ * 가득 차면 가장 오래된 스냅숏을 덮어쓴다.
+ */
+public class SnapshotRing {
+    private final GameSnapshot[] slots;
+    private int newest = -1; // 가장 최근 슬롯
+    private int size = 0;
+
+    public SnapshotRing(int capacity) {
+        slots = new GameSnapshot[Math.max(1, capacity)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new GameSnapshot();
+        }
+    }
+
+    // 현재 엔진 상태를 가장 최근 스냅숏으로 저장
+    public void push(GameEngine engine) {
+        newest = (newest + 1) % slots.length;
+        engine.save(slots[newest]);
+        if (size < slots.length) {
+            size++;
+        }
+    }
+
+    /**
+     * 가장 최근 스냅숏에서 steps개 전 상태로 엔진을 되돌리고, 그보다 새로운 스냅숏은 버림.
+     * 남은 것이 모자라면 가장 오래된 상태로 되돌린다. 되돌릴 것이 없으면 false.
+     */
+    public boolean rewind(GameEngine engine, int steps) {
+        if (size == 0) return false;
+        int back = Math.min(steps, size - 1);
+        newest = Math.floorMod(newest - back, slots.length);
+        size -= back;
+        engine.restore(slots[newest]);
+        return true;
+    }
+
+    public void clear() {
+        newest = -1;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
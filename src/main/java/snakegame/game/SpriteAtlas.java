@@ -0,0 +1,85 @@
+package snakegame.game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 머리, 몸통, 사과, 폭탄 그림을 UNIT_SIZE 크기로 미리 그려 둔 한 장짜리 이미지.
+ * 칸 하나를 그리는 비용이 drawImage 한 번(크기 변환 없는 복사)으로 끝난다.
+ * 화면(GraphicsConfiguration)이 바뀌면 그 화면에 맞는 형식으로 다시 만든다.
+ */
+public class SpriteAtlas {
+    public static final int HEAD = 0;
+    public static final int BODY = 1;
+    public static final int APPLE = 2;
+    public static final int BOMB = 3;
+    private static final int SPRITE_COUNT = 4;
+
+    private static final Color HEAD_COLOR = new Color(81, 147, 212); // 머리 (하늘색)
+    private static final Color BODY_COLOR = new Color(61, 129, 197); // 몸통 (어두운 하늘색)
+    private static final BasicStroke SEGMENT_STROKE = new BasicStroke(2);
+
+    private final int unitSize;
+    private final BufferedImage appleImage;
+    private final BufferedImage bombImage;
+
+    private GraphicsConfiguration config;
+    private Image atlas; // 스프라이트를 가로로 나란히 배치
+
+    public SpriteAtlas(int unitSize, BufferedImage appleImage, BufferedImage bombImage) {
+        this.unitSize = unitSize;
+        this.appleImage = appleImage;
+        this.bombImage = bombImage;
+    }
+
+    public void invalidate() {
+        atlas = null;
+    }
+
+    // 스프라이트 하나를 (x, y)에 그림
+    public void draw(Graphics2D g, GraphicsConfiguration target, int sprite, int x, int y) {
+        if (target != config || atlas == null) {
+            config = target;
+            atlas = build();
+        }
+        int sx = sprite * unitSize;
+        g.drawImage(atlas, x, y, x + unitSize, y + unitSize, sx, 0, sx + unitSize, unitSize, null);
+    }
+
+    private Image build() {
+        Image image = config != null
+                ? config.createCompatibleImage(unitSize * SPRITE_COUNT, unitSize, Transparency.TRANSLUCENT)
+                : new BufferedImage(unitSize * SPRITE_COUNT, unitSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = (Graphics2D) image.getGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+        drawSegment(g2d, HEAD * unitSize, HEAD_COLOR);
+        drawSegment(g2d, BODY * unitSize, BODY_COLOR);
+        if (appleImage != null) {
+            g2d.drawImage(appleImage, APPLE * unitSize, 0, unitSize, unitSize, null);
+        }
+        if (bombImage != null) {
+            g2d.drawImage(bombImage, BOMB * unitSize, 0, unitSize, unitSize, null);
+        }
+        g2d.dispose();
+        return image;
+    }
+
+    // 둥근 사각형 뱀 세그먼트 (그라데이션 + 테두리)
+    private void drawSegment(Graphics2D g, int x, Color baseColor) {
+        Color lightColor = new Color(
+                Math.min(255, baseColor.getRed() + 30),
+                Math.min(255, baseColor.getGreen() + 30),
+                Math.min(255, baseColor.getBlue() + 30)
+        );
+
+        g.setPaint(new GradientPaint(x, 0, lightColor, x + unitSize, unitSize, baseColor));
+        g.fillRoundRect(x + 2, 2, unitSize - 4, unitSize - 4, 12, 12);
+
+        // 테두리
+        g.setColor(new Color(baseColor.getRed() - 20, baseColor.getGreen() - 20, baseColor.getBlue() - 20));
+        g.setStroke(SEGMENT_STROKE);
+        g.drawRoundRect(x + 2, 2, unitSize - 4, unitSize - 4, 12, 12);
+    }
+}
@@ -0,0 +1,22 @@
+package snakegame.game;
+
+/**
+ * GameEngine.step() 한 번의 결과
+ */
+public enum StepResult {
+    MOVED,      // 한 칸 이동
+    ATE_APPLE,  // 사과를 먹고 길이 증가
+    HIT_WALL,   // 벽과 충돌
+    HIT_SELF,   // 자기 몸과 충돌
+    HIT_BOMB,   // 폭탄과 충돌
+    WON,        // 뱀이 판 전체를 채움
+    STALEMATE,  // 사과를 놓을 빈 칸이 없어 더 자랄 수 없음 (남은 칸은 폭탄뿐)
+    TIME_UP,    // 제한 시간 종료
+    GAME_OVER,  // 이미 끝난 게임에 step() 호출
+    HIT_SNAKE;  // 다른 뱀의 몸과 충돌하거나 머리끼리 부딪힘 (아레나 전용, 순번을 유지하려고 끝에 둠)
+
+    // 이 결과로 게임이 끝나는지 여부
+    public boolean isFatal() {
+        return this != MOVED && this != ATE_APPLE;
+    }
+}
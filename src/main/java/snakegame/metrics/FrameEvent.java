@@ -0,0 +1,25 @@
+package snakegame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * paintComponent 한 번 (JFR). 이벤트 길이가 그리기 시간이다.
+ */
+@Name("snakegame.Frame")
+@Label("Frame Paint")
+@Category({"Snake Game", "Rendering"})
+@StackTrace(false)
+public class FrameEvent extends Event {
+    @Label("Draw Calls")
+    public int drawCalls; // 스프라이트 복사 횟수
+
+    @Label("Clip Width")
+    public int clipWidth;
+
+    @Label("Clip Height")
+    public int clipHeight;
+}
@@ -0,0 +1,234 @@
+package snakegame.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.awt.EventQueue;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 실행 중 측정값 모음.
+ * 틱 시간, 그리기 시간, EDT 큐 지연, 입력 지연, GC 일시정지를 히스토그램으로 모으고
+ * 할당 속도와 GC 횟수를 함께 JMX, 화면 오버레이, 게임 오버 시 파일로 내보낸다.
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    public static final String OBJECT_NAME = "snakegame:type=GameMetrics";
+    private static final long EDT_PROBE_INTERVAL_NANOS = 100_000_000L;  // EDT 지연은 0.1초마다 한 번 측정
+    private static final long ALLOCATION_SAMPLE_NANOS = 1_000_000_000L; // 할당 속도는 1초 구간으로 계산
+
+    private final LatencyHistogram tickTime = new LatencyHistogram("tick");
+    private final LatencyHistogram paintTime = new LatencyHistogram("paint");
+    private final LatencyHistogram edtQueueDelay = new LatencyHistogram("edt");
+    private final LatencyHistogram inputLatency = new LatencyHistogram("input");
+    private final LatencyHistogram gcPause = new LatencyHistogram("gc");
+
+    private final List<NotificationEmitter> gcEmitters = new ArrayList<>();
+    private final NotificationListener gcListener = this::onGarbageCollection;
+    private volatile long gcCount = 0;
+
+    // EDT 지연 측정 (게임 루프 스레드에서 넣고 EDT에서 기록, 한 번에 하나만)
+    private volatile long probePostedAt = 0;   // 0이면 대기 중인 측정 없음
+    private long lastProbeAt = 0;
+    private final Runnable edtProbe = () -> {
+        edtQueueDelay.record(System.nanoTime() - probePostedAt);
+        probePostedAt = 0;
+    };
+
+    // 할당 속도 (게임 루프 스레드에서 sample() 할 때 갱신)
+    private final com.sun.management.ThreadMXBean threads;
+    private long allocationSampleAt = 0;
+    private long allocatedAtSample = 0;
+    private volatile double allocationRate = -1;
+
+    private ObjectName registeredName;
+
+    public GameMetrics() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        threads = bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+
+    /**
+     * JMX 등록과 GC 알림 구독. 같은 이름이 이미 있으면 (이전 게임 창) 교체한다.
+     */
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            registeredName = name;
+        } catch (JMException e) {
+            System.out.println("JMX 등록 실패: " + e.getMessage());
+        }
+
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // ZGC, Shenandoah의 "Cycles" 빈은 동시 수행 시간이라 일시정지가 아님
+            if (gc instanceof NotificationEmitter && !gc.getName().endsWith("Cycles")) {
+                NotificationEmitter emitter = (NotificationEmitter) gc;
+                emitter.addNotificationListener(gcListener, null, null);
+                gcEmitters.add(emitter);
+            }
+        }
+    }
+
+    public void unregister() {
+        for (NotificationEmitter emitter : gcEmitters) {
+            try {
+                emitter.removeNotificationListener(gcListener);
+            } catch (JMException ignored) {
+                // 이미 해제됨
+            }
+        }
+        gcEmitters.clear();
+
+        if (registeredName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            } catch (JMException ignored) {
+                // 다른 창이 같은 이름으로 다시 등록한 경우
+            }
+            registeredName = null;
+        }
+    }
+
+    private void onGarbageCollection(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        gcPause.record(info.getGcInfo().getDuration() * 1_000_000L);
+        gcCount++;
+    }
+
+    /**
+     * 주기적인 측정 (게임 루프 스레드에서 프레임마다 호출).
+     * EDT 지연 측정 작업을 넣고 할당 속도를 갱신한다. 호출마다 할당은 없다.
+     */
+    public void sample() {
+        long now = System.nanoTime();
+        if (probePostedAt == 0 && now - lastProbeAt >= EDT_PROBE_INTERVAL_NANOS) {
+            lastProbeAt = now;
+            probePostedAt = now;
+            EventQueue.invokeLater(edtProbe);
+        }
+
+        if (threads != null && now - allocationSampleAt >= ALLOCATION_SAMPLE_NANOS) {
+            long allocated = threads.getTotalThreadAllocatedBytes();
+            if (allocated >= 0 && allocationSampleAt != 0) {
+                allocationRate = (allocated - allocatedAtSample) / 1e6 / ((now - allocationSampleAt) / 1e9);
+            }
+            allocationSampleAt = now;
+            allocatedAtSample = allocated;
+        }
+    }
+
+    public LatencyHistogram tickTime() {
+        return tickTime;
+    }
+
+    public LatencyHistogram paintTime() {
+        return paintTime;
+    }
+
+    public LatencyHistogram inputLatency() {
+        return inputLatency;
+    }
+
+    @Override
+    public HistogramSummary getTickTime() {
+        return tickTime.summary();
+    }
+
+    @Override
+    public HistogramSummary getPaintTime() {
+        return paintTime.summary();
+    }
+
+    @Override
+    public HistogramSummary getEdtQueueDelay() {
+        return edtQueueDelay.summary();
+    }
+
+    @Override
+    public HistogramSummary getInputLatency() {
+        return inputLatency.summary();
+    }
+
+    @Override
+    public HistogramSummary getGcPause() {
+        return gcPause.summary();
+    }
+
+    @Override
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    @Override
+    public double getAllocationRate() {
+        return allocationRate;
+    }
+
+    // 화면 오버레이용 짧은 요약 (한 줄에 하나)
+    public String[] overlayLines() {
+        return new String[] {
+                shortLine(tickTime),
+                shortLine(paintTime),
+                shortLine(edtQueueDelay),
+                shortLine(inputLatency),
+                String.format("gc %d회 최대 %.1fms", gcCount, gcPause.getMaxNanos() / 1e6),
+                String.format("할당 %.1fMB/s", allocationRate)
+        };
+    }
+
+    private static String shortLine(LatencyHistogram h) {
+        return String.format("%-5s p50 %.0fus p99 %.0fus 최대 %.0fus", h.getName(),
+                h.getPercentileNanos(50) / 1e3, h.getPercentileNanos(99) / 1e3, h.getMaxNanos() / 1e3);
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        for (LatencyHistogram h : new LatencyHistogram[] {tickTime, paintTime, edtQueueDelay, inputLatency, gcPause}) {
+            sb.append(h).append(System.lineSeparator());
+        }
+        sb.append(String.format("gc 횟수 %d, 할당 속도 %.1fMB/s%n", gcCount, allocationRate));
+        return sb.toString();
+    }
+
+    // 보고서를 파일로 저장 (폴더가 없으면 만듦)
+    public void dump(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, getReport());
+    }
+
+    @Override
+    public void reset() {
+        tickTime.reset();
+        paintTime.reset();
+        edtQueueDelay.reset();
+        inputLatency.reset();
+        gcPause.reset();
+        gcCount = 0;
+    }
+}
@@ -0,0 +1,31 @@
+package snakegame.metrics;
+
+/**
+ * JMX로 보이는 게임 지표 (jconsole 등에서 snakegame:type=GameMetrics).
+ * 지연 시간은 모두 마이크로초.
+ */
+public interface GameMetricsMXBean {
+    // 시뮬레이션 한 틱 처리 시간
+    HistogramSummary getTickTime();
+
+    // paintComponent 한 번 처리 시간
+    HistogramSummary getPaintTime();
+
+    // 작업을 EDT 큐에 넣은 뒤 실행되기까지 걸린 시간
+    HistogramSummary getEdtQueueDelay();
+
+    // 키 입력부터 그 방향으로 움직인 틱까지
+    HistogramSummary getInputLatency();
+
+    // GC 일시정지 시간
+    HistogramSummary getGcPause();
+
+    long getGcCount();
+
+    // 최근 할당 속도 (MB/s), 측정할 수 없으면 -1
+    double getAllocationRate();
+
+    String getReport();
+
+    void reset();
+}
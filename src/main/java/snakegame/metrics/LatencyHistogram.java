@@ -0,0 +1,117 @@
+package snakegame.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR 방식(로그-선형 구간)의 지연 시간 히스토그램 (나노초).
+ * 128ns 미만은 1ns 단위, 그 위로는 2의 거듭제곱 구간마다 64칸으로 나누므로 상대 오차가 약 1.6% 이하이고,
+ * 기록은 배열 칸 하나를 올리는 것뿐이라 할당이 없다.
+ * 기록하는 스레드는 하나라고 가정하고, 조회는 아무 스레드에서나 할 수 있다.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR = 128;     // 이 값 미만은 값 그대로 칸 번호
+    private static final int SUB_BUCKETS = 64; // 그 위 2의 거듭제곱 구간마다 칸 수
+    private static final int MAX_SHIFT = 40;   // 약 2^46ns (19시간)까지
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR + MAX_SHIFT * SUB_BUCKETS);
+    private volatile long count = 0;
+    private volatile long total = 0;
+    private volatile long max = 0;
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        int index = indexOf(nanos);
+        counts.lazySet(index, counts.get(index) + 1); // 기록 스레드가 하나라서 원자적 증가가 필요 없음
+        total += nanos;
+        if (nanos > max) {
+            max = nanos;
+        }
+        count++;
+    }
+
+    // 모든 기록을 지움 (기록 중에 부르면 그 순간의 값 몇 개는 남거나 빠질 수 있음)
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.lazySet(i, 0);
+        }
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return max;
+    }
+
+    public long getMeanNanos() {
+        long n = count;
+        return n == 0 ? 0 : total / n;
+    }
+
+    // 백분위(0~100) 값, 해당 칸의 상한으로 답함
+    public long getPercentileNanos(double percentile) {
+        long n = count;
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public HistogramSummary summary() {
+        return new HistogramSummary(getCount(), micros(getMeanNanos()), micros(getPercentileNanos(50)),
+                micros(getPercentileNanos(90)), micros(getPercentileNanos(99)),
+                micros(getPercentileNanos(99.9)), micros(getMaxNanos()));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-8s n=%d 평균 %.1fus p50 %.1fus p90 %.1fus p99 %.1fus p99.9 %.1fus 최대 %.1fus",
+                name, getCount(), micros(getMeanNanos()), micros(getPercentileNanos(50)),
+                micros(getPercentileNanos(90)), micros(getPercentileNanos(99)),
+                micros(getPercentileNanos(99.9)), micros(getMaxNanos()));
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6; // value >>> shift가 64~127이 되도록
+        if (shift > MAX_SHIFT) {
+            return LINEAR + MAX_SHIFT * SUB_BUCKETS - 1;
+        }
+        return LINEAR + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    // 칸에 들어가는 가장 큰 값
+    static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+        long sub = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
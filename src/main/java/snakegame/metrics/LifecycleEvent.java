@@ -0,0 +1,34 @@
+package snakegame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 게임 시작, 일시정지, 재개, 재시작, 게임 오버 (JFR).
+ */
+@Name("snakegame.Lifecycle")
+@Label("Game Lifecycle")
+@Category({"Snake Game", "Lifecycle"})
+public class LifecycleEvent extends Event {
+    @Label("Transition")
+    public String transition;
+
+    @Label("Score")
+    public int score;
+
+    @Label("Result")
+    public String result;
+
+    // 이벤트가 켜져 있을 때만 만들어서 기록
+    public static void emit(String transition, int score, String result) {
+        LifecycleEvent event = new LifecycleEvent();
+        if (event.isEnabled()) {
+            event.transition = transition;
+            event.score = score;
+            event.result = result;
+            event.commit();
+        }
+    }
+}
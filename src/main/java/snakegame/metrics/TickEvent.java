@@ -0,0 +1,34 @@
+package snakegame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 시뮬레이션 한 틱 (JFR). 이벤트 길이가 틱 처리 시간이다.
+ */
+@Name("snakegame.Tick")
+@Label("Game Tick")
+@Category({"Snake Game", "Game Loop"})
+@StackTrace(false)
+public class TickEvent extends Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Snake Length")
+    public int length;
+
+    @Label("Apples Eaten")
+    @Description("이번 판에서 지금까지 먹은 사과 수")
+    public int applesEaten;
+
+    @Label("Free Cells")
+    @Description("사과와 폭탄을 놓을 수 있는 빈 칸 수 (빈 칸 목록에서 바로 뽑으므로 재시도는 없음)")
+    public int freeCells;
+
+    @Label("Result")
+    public String result;
+}
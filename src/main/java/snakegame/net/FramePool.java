@@ -0,0 +1,89 @@
+package snakegame.net;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상태 프레임을 담는 다이렉트 ByteBuffer 풀.
+ * 프레임은 한 번만 쓰고 관전자마다 duplicate()로 위치만 따로 둔 뷰를 넘겨 소켓에 바로 쓰므로,
+ * 관전자가 많아도 내용 복사가 없다. 참조 수가 0이 되면 풀로 돌아간다.
+ */
+public class FramePool {
+    private final int frameCapacity;
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<Frame> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    public FramePool(int frameCapacity, int maxPooled) {
+        this.frameCapacity = frameCapacity;
+        this.maxPooled = maxPooled;
+    }
+
+    // 비어 있는 프레임 하나 (참조 수 1, 쓰기 위치 0)
+    public Frame acquire() {
+        Frame frame = free.poll();
+        if (frame == null) {
+            allocated.incrementAndGet();
+            frame = new Frame(this, ByteBuffer.allocateDirect(frameCapacity));
+        } else {
+            pooled.decrementAndGet();
+        }
+        frame.buffer.clear();
+        frame.refs.set(1);
+        return frame;
+    }
+
+    private void recycle(Frame frame) {
+        if (pooled.incrementAndGet() <= maxPooled) {
+            free.offer(frame);
+        } else {
+            pooled.decrementAndGet(); // 풀이 가득 차면 GC에 맡김
+        }
+    }
+
+    // 지금까지 새로 할당한 프레임 수
+    public int getAllocated() {
+        return allocated.get();
+    }
+
+    /**
+     * 참조 수를 세는 프레임 하나.
+     * 만든 쪽이 buffer()에 쓰고 flip()한 뒤로는 내용을 바꾸지 않으며, 받는 쪽은 view()로 읽는다.
+     */
+    public static final class Frame {
+        private final FramePool pool;
+        private final ByteBuffer buffer;
+        private final AtomicInteger refs = new AtomicInteger();
+
+        private Frame(FramePool pool, ByteBuffer buffer) {
+            this.pool = pool;
+            this.buffer = buffer;
+        }
+
+        // 쓰기용 버퍼 (만든 쪽 전용)
+        public ByteBuffer buffer() {
+            return buffer;
+        }
+
+        // 내용을 공유하고 위치만 따로 가진 읽기용 뷰
+        public ByteBuffer view() {
+            return buffer.duplicate();
+        }
+
+        public Frame retain() {
+            refs.incrementAndGet();
+            return this;
+        }
+
+        public void release() {
+            int left = refs.decrementAndGet();
+            if (left == 0) {
+                pool.recycle(this);
+            } else if (left < 0) {
+                throw new IllegalStateException("이미 반환된 프레임");
+            }
+        }
+    }
+}
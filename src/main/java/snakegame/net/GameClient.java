@@ -0,0 +1,222 @@
+package snakegame.net;
+
+import snakegame.bot.Controllers;
+import snakegame.bot.SnakeController;
+import snakegame.game.GameEngine;
+import snakegame.game.GameSettings;
+import snakegame.game.StepResult;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 서버 부하 시험용 클라이언트.
+ * 클라이언트마다 가상 스레드 하나에서 정책(bot)으로 방향을 정해 보내고,
+ * 환영 메시지의 시드와 설정으로 같은 판을 직접 돌려 서버가 보낸 틱 결과와 하나하나 맞춰 본다.
+ */
+public class GameClient {
+    private final InetSocketAddress address;
+    private final Supplier<SnakeController> bot;
+
+    private final AtomicInteger finishedGames = new AtomicInteger();
+    private final AtomicInteger failedGames = new AtomicInteger();   // 연결 실패, 중간 끊김
+    private final AtomicInteger mismatches = new AtomicInteger();    // 서버 결과와 직접 돌린 결과가 다른 판
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicInteger spectatedGames = new AtomicInteger(); // 끝 프레임까지 받은 관전
+    private final AtomicLong spectatorFrames = new AtomicLong();
+    private final AtomicLong spectatorBytes = new AtomicLong();
+
+    public GameClient(InetSocketAddress address, Supplier<SnakeController> bot) {
+        this.address = address;
+        this.bot = bot;
+    }
+
+    // 판 하나를 끝까지 진행 (호출한 스레드에서 블로킹)
+    public void play() {
+        try (SocketChannel channel = SocketChannel.open(address)) {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            ByteBuffer in = ByteBuffer.allocate(Protocol.WELCOME_SIZE);
+            ByteBuffer out = ByteBuffer.allocate(1);
+
+            readFully(channel, in, Protocol.WELCOME_SIZE);
+            if (in.get() != Protocol.WELCOME) {
+                failedGames.incrementAndGet();
+                return;
+            }
+            in.getInt(); // 판 번호
+            long seed = in.getLong();
+            GameSettings settings = Protocol.readSettings(in);
+            GameEngine mirror = new GameEngine(settings, seed);
+            SnakeController controller = bot.get();
+            char sent = mirror.getDirection();
+
+            while (true) {
+                readFully(channel, in, Protocol.TICK_SIZE);
+                if (in.get() != Protocol.TICK) {
+                    failedGames.incrementAndGet();
+                    return;
+                }
+                int tick = in.getInt();
+                char direction = (char) in.get();
+                int resultOrdinal = in.get();
+                int score = in.getInt();
+
+                StepResult expected = mirror.step(direction);
+                ticks.incrementAndGet();
+                if (tick != (int) mirror.getTickCount() || resultOrdinal != expected.ordinal()
+                        || score != mirror.getScore()) {
+                    mismatches.incrementAndGet();
+                    return;
+                }
+                if (expected.isFatal()) {
+                    finishedGames.incrementAndGet();
+                    return;
+                }
+
+                char next = controller.nextDirection(mirror);
+                if (next != sent) {
+                    out.clear();
+                    out.put((byte) next).flip();
+                    channel.write(out);
+                    sent = next;
+                }
+            }
+        } catch (IOException e) {
+            failedGames.incrementAndGet();
+        }
+    }
+
+    /**
+     * 진행 중인 아무 판이나 끝까지 관전 (호출한 스레드에서 블로킹).
+     * 받은 프레임은 SnapshotDecoder로 풀어 보며, 판 끝 프레임까지 받으면 관전 하나로 센다.
+     */
+    public void spectate(InetSocketAddress spectatorAddress) {
+        try (SocketChannel channel = SocketChannel.open(spectatorAddress)) {
+            ByteBuffer out = ByteBuffer.allocate(4).putInt(0, -1);
+            channel.write(out);
+
+            ByteBuffer in = ByteBuffer.allocateDirect(Protocol.WELCOME_SIZE);
+            readFully(channel, in, Protocol.WELCOME_SIZE);
+            if (in.get() != Protocol.WELCOME) return;
+            in.getInt();
+            in.getLong();
+            GameSettings settings = Protocol.readSettings(in);
+            SnapshotDecoder decoder = new SnapshotDecoder(settings);
+
+            ByteBuffer length = ByteBuffer.allocate(4);
+            ByteBuffer frame = ByteBuffer.allocateDirect(
+                    SnapshotFormat.maxFrameSize(settings.getColumns(), settings.getRows(), settings.getAppleCount()));
+            while (true) {
+                readFully(channel, length, 4);
+                int size = length.getInt();
+                readFully(channel, frame, size);
+                decoder.apply(frame);
+                spectatorFrames.incrementAndGet();
+                spectatorBytes.addAndGet(4 + size);
+                if (decoder.getEndResult() != null) {
+                    spectatedGames.incrementAndGet();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 판이 끝나기 전에 끊김 (관전 시작 전에 판이 끝난 경우 등)
+        }
+    }
+
+    private static void readFully(SocketChannel channel, ByteBuffer in, int length) throws IOException {
+        in.clear().limit(length);
+        while (in.hasRemaining()) {
+            if (channel.read(in) < 0) {
+                throw new EOFException();
+            }
+        }
+        in.flip();
+    }
+
+    public int getFinishedGames() {
+        return finishedGames.get();
+    }
+
+    public int getFailedGames() {
+        return failedGames.get();
+    }
+
+    public int getMismatches() {
+        return mismatches.get();
+    }
+
+    public long getTicks() {
+        return ticks.get();
+    }
+
+    public int getSpectatedGames() {
+        return spectatedGames.get();
+    }
+
+    public long getSpectatorFrames() {
+        return spectatorFrames.get();
+    }
+
+    public long getSpectatorBytes() {
+        return spectatorBytes.get();
+    }
+
+    /**
+     * 클라이언트 여러 개를 동시에 붙여 봄.
+     * 호스트를 "local"로 주면 같은 프로세스 안에 서버를 띄워 루프백으로 접속한다.
+     * -Dsnake.spectators=N이면 관전자 N명도 진행 중인 판에 붙인다 (관전 포트는 서버 포트 + 1).
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = args.length > 0 ? args[0] : "local";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7777;
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        String botName = System.getProperty("snake.bot", "greedy");
+        int spectators = Integer.getInteger("snake.spectators", 0);
+
+        GameServer server = null;
+        int spectatorPort = port + 1;
+        if (host.equals("local")) {
+            server = new GameServer(GameSettings.fromSystemProperties(), Runtime.getRuntime().availableProcessors());
+            port = server.start(0);
+            spectatorPort = server.startSpectating(0);
+            host = "127.0.0.1";
+        }
+
+        GameClient client = new GameClient(new InetSocketAddress(host, port), Controllers.byName(botName));
+        long start = System.nanoTime();
+        List<Thread> threads = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            threads.add(Thread.ofVirtual().name("client-" + i).start(client::play));
+        }
+        InetSocketAddress spectatorAddress = new InetSocketAddress(host, spectatorPort);
+        for (int i = 0; i < spectators; i++) {
+            threads.add(Thread.ofVirtual().name("spectator-" + i).start(() -> client.spectate(spectatorAddress)));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("클라이언트 %d, 끝난 판 %d, 실패 %d, 불일치 %d, 틱 %d, %.1f초%n",
+                clients, client.getFinishedGames(), client.getFailedGames(), client.getMismatches(),
+                client.getTicks(), seconds);
+        if (spectators > 0) {
+            System.out.printf("관전자 %d, 끝까지 본 판 %d, 프레임 %d, 프레임당 평균 %.1f바이트%n", spectators,
+                    client.getSpectatedGames(), client.getSpectatorFrames(),
+                    (double) client.getSpectatorBytes() / Math.max(1, client.getSpectatorFrames()));
+        }
+        if (server != null) {
+            System.out.print(server.stats());
+            server.stop();
+        }
+    }
+}
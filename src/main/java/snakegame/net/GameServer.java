@@ -0,0 +1,204 @@
+package snakegame.net;
+
+import snakegame.game.GameSettings;
+import snakegame.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 화면 없이 여러 판을 동시에 진행하는 서버.
+ * 접속마다 독립된 판을 하나 열고, 판 진행은 코어 수만큼의 틱 샤드가 나눠 맡는다.
+ * 규칙은 모두 GameEngine 그대로이며, 서버가 판정한 결과만 클라이언트에 보낸다.
+ */
+public class GameServer {
+    private final GameSettings settings;
+    private final TickShard[] shards;
+    private final Random seeds = new Random();
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong totalSessions = new AtomicLong();
+    private final AtomicInteger activeSpectators = new AtomicInteger();
+    private final ConcurrentHashMap<Integer, Match> matches = new ConcurrentHashMap<>(); // 진행 중인 판 (번호 -> 판)
+    private final FramePool framePool;
+
+    private ServerSocketChannel serverChannel;
+    private ServerSocketChannel spectatorChannel;
+
+    public GameServer(GameSettings settings, int shardCount) {
+        this.settings = settings.copy();
+        this.shards = new TickShard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new TickShard(i, settings.getDelay());
+        }
+        framePool = new FramePool(4 + SnapshotFormat.maxFrameSize(settings.getColumns(), settings.getRows(),
+                settings.getAppleCount()), 1024);
+    }
+
+    // 포트를 열고 접속을 받기 시작함, 실제로 열린 포트를 돌려줌 (0을 주면 임의 포트)
+    public synchronized int start(int port) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        for (TickShard shard : shards) {
+            shard.start();
+        }
+        Thread.ofVirtual().name("accept").start(this::acceptLoop);
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    // 관전 포트를 열고 관전자를 받기 시작함, 실제로 열린 포트를 돌려줌
+    public synchronized int startSpectating(int port) throws IOException {
+        spectatorChannel = ServerSocketChannel.open();
+        spectatorChannel.bind(new InetSocketAddress(port), 1024);
+        Thread.ofVirtual().name("accept-spectator").start(this::spectatorAcceptLoop);
+        return ((InetSocketAddress) spectatorChannel.getLocalAddress()).getPort();
+    }
+
+    public synchronized void stop() {
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+            if (spectatorChannel != null) {
+                spectatorChannel.close();
+            }
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+        for (TickShard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    private void acceptLoop() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                long seed;
+                synchronized (seeds) {
+                    seed = seeds.nextLong();
+                }
+                int id = (int) totalSessions.incrementAndGet();
+                Session session = new Session(this, channel, id, settings, seed, framePool);
+                activeSessions.incrementAndGet();
+                matches.put(id, session.getMatch());
+                session.start();
+                // 샤드는 돌아가며 배정
+                shards[Math.floorMod(nextShard.getAndIncrement(), shards.length)].add(session.getMatch());
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    private void spectatorAcceptLoop() {
+        while (spectatorChannel.isOpen()) {
+            try {
+                SocketChannel channel = spectatorChannel.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Thread.ofVirtual().name("spectator").start(() -> spectate(channel));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    // 관전 연결 하나를 처리 (연결마다 가상 스레드 하나)
+    private void spectate(SocketChannel channel) {
+        activeSpectators.incrementAndGet();
+        try {
+            ByteBuffer request = ByteBuffer.allocate(4);
+            while (request.hasRemaining()) {
+                if (channel.read(request) < 0) return;
+            }
+            int id = request.getInt(0);
+            Match match = id >= 0 ? matches.get(id) : anyMatch();
+            if (match == null) return;
+
+            ByteBuffer welcome = ByteBuffer.allocate(Protocol.WELCOME_SIZE);
+            Protocol.putWelcome(welcome, match.getId(), match.getSeed(), settings);
+            welcome.flip();
+            while (welcome.hasRemaining()) {
+                channel.write(welcome);
+            }
+
+            Spectator spectator = new Spectator(channel);
+            if (match.addSpectator(spectator)) {
+                spectator.stream();
+            }
+        } catch (IOException e) {
+            // 관전자가 먼저 끊음
+        } finally {
+            activeSpectators.decrementAndGet();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    // 진행 중인 판 아무거나 하나, 없으면 null
+    private Match anyMatch() {
+        for (Match match : matches.values()) {
+            if (!match.isFinished()) return match;
+        }
+        return null;
+    }
+
+    void sessionClosed(Session session) {
+        activeSessions.decrementAndGet();
+        matches.remove(session.getMatch().getId());
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public long getTotalSessions() {
+        return totalSessions.get();
+    }
+
+    // 샤드별 진행 중인 판 수와 틱 처리 시간
+    public String stats() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("접속 %d (누적 %d), 관전 %d, 상태 프레임 버퍼 %d개%n", activeSessions.get(),
+                totalSessions.get(), activeSpectators.get(), framePool.getAllocated()));
+        for (TickShard shard : shards) {
+            LatencyHistogram tickTime = shard.getTickTime();
+            sb.append(String.format("  %s: 판 %d, 틱 처리 p50 %.1fus p99 %.1fus 최대 %.1fus, 밀린 틱 %d%n",
+                    tickTime.getName(), shard.getMatchCount(),
+                    tickTime.getPercentileNanos(50) / 1e3, tickTime.getPercentileNanos(99) / 1e3,
+                    tickTime.getMaxNanos() / 1e3, shard.getLateTicks()));
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+        int shardCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        GameServer server = new GameServer(GameSettings.fromSystemProperties(), shardCount);
+        int bound = server.start(port);
+        int spectatorPort = server.startSpectating(bound + 1);
+        System.out.printf("포트 %d에서 대기 중 (관전 %d), 틱 샤드 %d개%n", bound, spectatorPort, shardCount);
+        while (true) {
+            Thread.sleep(10_000);
+            System.out.print(server.stats());
+        }
+    }
+}
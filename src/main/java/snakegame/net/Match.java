@@ -0,0 +1,128 @@
+package snakegame.net;
+
+import snakegame.game.GameEngine;
+import snakegame.game.GameSettings;
+import snakegame.game.InputQueue;
+import snakegame.game.StepResult;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 서버에서 진행되는 한 판 (세션 하나와 짝).
+ * 입력은 세션 읽기 스레드가 InputQueue에 넣고, 엔진 진행과 메시지 작성은 틱 스레드만 한다.
+ * 관전자가 있으면 틱마다 상태 프레임을 한 번만 만들어 모든 관전자에게 같이 넘긴다.
+ */
+final class Match {
+    private static final int KEYFRAME_INTERVAL = 64; // 틱
+
+    private final int id;
+    private final Session session;
+    private final GameEngine engine;
+    private final InputQueue input = new InputQueue(8);
+    private final OutboundBuffer outbound;
+    private final FramePool framePool;
+    private final SnapshotEncoder snapshots = new SnapshotEncoder(KEYFRAME_INTERVAL);
+    private final CopyOnWriteArrayList<Spectator> spectators = new CopyOnWriteArrayList<>();
+    private boolean spectatorsEnded = false; // spectators로 동기화
+    private volatile boolean finished = false; // 게임이 끝났거나 연결이 끊김
+
+    Match(int id, Session session, GameSettings settings, long seed, int outboundCapacity, FramePool framePool) {
+        this.id = id;
+        this.session = session;
+        this.engine = new GameEngine(settings, seed);
+        this.outbound = new OutboundBuffer(outboundCapacity);
+        this.framePool = framePool;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    long getSeed() {
+        return engine.getSeed();
+    }
+
+    InputQueue getInput() {
+        return input;
+    }
+
+    OutboundBuffer getOutbound() {
+        return outbound;
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    void finish() {
+        finished = true;
+        session.wakeWriter();
+    }
+
+    /**
+     * 한 틱 진행하고 결과 메시지를 보냄 (틱 스레드).
+     * scratch는 틱 스레드가 돌려 쓰는 메시지 작성용 버퍼.
+     */
+    void tick(ByteBuffer scratch) {
+        char next = input.poll();
+        char direction = next != 0 ? next : engine.getDirection();
+        StepResult result = engine.step(direction);
+        if (!spectators.isEmpty()) {
+            publish(result);
+        }
+
+        scratch.clear();
+        scratch.put(Protocol.TICK);
+        scratch.putInt((int) engine.getTickCount());
+        scratch.put((byte) direction);
+        scratch.put((byte) result.ordinal());
+        scratch.putInt(engine.getScore());
+        if (!outbound.offer(scratch.array(), scratch.position())) {
+            // 클라이언트가 받는 속도가 틱을 따라오지 못함, 틱 스레드를 붙잡지 않도록 끊음
+            finish();
+            return;
+        }
+        if (result.isFatal()) {
+            finished = true;
+        }
+        session.wakeWriter();
+    }
+
+    // 이번 틱의 상태 프레임을 한 번 만들어 모든 관전자에게 넘김 (틱 스레드)
+    private void publish(StepResult result) {
+        FramePool.Frame frame = framePool.acquire();
+        ByteBuffer buffer = frame.buffer();
+        buffer.putInt(0);
+        snapshots.encode(engine, result, buffer);
+        buffer.putInt(0, buffer.position() - 4); // 길이 앞머리
+        buffer.flip();
+        for (Spectator spectator : spectators) {
+            if (!spectator.offer(frame)) {
+                spectators.remove(spectator);
+            }
+        }
+        frame.release();
+    }
+
+    // 관전자 추가 (접속 스레드), 판이 이미 끝났으면 false
+    boolean addSpectator(Spectator spectator) {
+        synchronized (spectators) {
+            if (spectatorsEnded) return false;
+            spectators.add(spectator);
+        }
+        snapshots.requestKeyframe();
+        return true;
+    }
+
+    // 판이 틱 샤드에서 빠질 때 관전자들에게 끝을 알림 (틱 스레드)
+    void endSpectators() {
+        synchronized (spectators) {
+            spectatorsEnded = true;
+            for (Spectator spectator : spectators) {
+                spectator.end();
+            }
+            spectators.clear();
+        }
+    }
+}
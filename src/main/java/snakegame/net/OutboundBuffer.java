@@ -0,0 +1,68 @@
+package snakegame.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 틱 스레드(생산자 하나)가 메시지를 넣고 세션의 쓰기 스레드(소비자 하나)가 소켓으로 내보내는 바이트 링 버퍼.
+ * 틱 스레드는 느린 클라이언트 때문에 소켓 쓰기에서 막히지 않고, 버퍼가 차면 offer()가 실패한다.
+ */
+final class OutboundBuffer {
+    private final byte[] ring;
+    private final int mask;
+    private final ByteBuffer writeView;   // 소비자 전용, ring을 감싼 뷰 (매번 새로 만들지 않음)
+    private final AtomicLong head = new AtomicLong(); // 다음에 내보낼 위치 (소비자만 증가)
+    private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자만 증가)
+
+    OutboundBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(64, capacity - 1)) << 1;
+        ring = new byte[size];
+        mask = size - 1;
+        writeView = ByteBuffer.wrap(ring);
+    }
+
+    /**
+     * 메시지 하나를 넣음 (생산자 스레드), 자리가 없으면 false.
+     * 링 끝에 걸치는 메시지는 두 번에 나눠 복사한다.
+     */
+    boolean offer(byte[] message, int length) {
+        long t = tail.get();
+        if (ring.length - (t - head.get()) < length) {
+            return false;
+        }
+        int index = (int) t & mask;
+        int first = Math.min(length, ring.length - index);
+        System.arraycopy(message, 0, ring, index, first);
+        System.arraycopy(message, first, ring, 0, length - first);
+        tail.lazySet(t + length);
+        return true;
+    }
+
+    boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * 쌓인 바이트를 채널로 내보냄 (소비자 스레드). 보낸 바이트 수.
+     */
+    int drainTo(WritableByteChannel channel) throws IOException {
+        long h = head.get();
+        long t = tail.get();
+        if (h == t) return 0;
+        int index = (int) h & mask;
+        int length = (int) Math.min(t - h, ring.length - index); // 링 끝까지만, 나머지는 다음 호출에
+        writeView.limit(index + length).position(index);
+        int written = 0;
+        while (writeView.hasRemaining()) {
+            written += channel.write(writeView);
+        }
+        head.lazySet(h + written);
+        return written;
+    }
+}
@@ -0,0 +1,63 @@
+package snakegame.net;
+
+import snakegame.game.GameSettings;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 서버-클라이언트 통신 형식 (모두 빅 엔디언).
+ *
+ * 클라이언트 -> 서버: 1바이트 명령. 'U', 'D', 'L', 'R'은 방향 입력, 'Q'는 종료.
+ * 서버 -> 클라이언트:
+ *   환영 'W' | 판 번호(4) | 시드(8) | 가로(2) | 세로(2) | 사과 개수(4) | 폭탄(1) | 틱 간격 ms(2) | 제한 시간 초(2)
+ *   틱   'T' | 틱 번호(4) | 적용된 방향(1) | 결과(StepResult 순번, 1) | 점수(4)
+ * 엔진은 시드와 입력만으로 결정되므로 클라이언트는 환영 메시지의 설정과 시드로 같은 판을
+ * 직접 돌려 틱 메시지와 맞춰 볼 수 있다.
+ *
+ * 관전 포트로 접속하면 판 번호(4, -1이면 진행 중인 아무 판)를 보내고, 환영 메시지 다음부터
+ * 틱마다 길이(4) | 상태 프레임(SnapshotFormat)을 받는다.
+ */
+public final class Protocol {
+    public static final byte WELCOME = 'W';
+    public static final byte TICK = 'T';
+    public static final byte QUIT = 'Q';
+
+    public static final int WELCOME_SIZE = 26;
+    public static final int TICK_SIZE = 11;
+
+    private Protocol() {
+    }
+
+    public static void putWelcome(ByteBuffer out, int matchId, long seed, GameSettings settings) {
+        out.put(WELCOME);
+        out.putInt(matchId);
+        out.putLong(seed);
+        out.putShort((short) settings.getColumns());
+        out.putShort((short) settings.getRows());
+        out.putInt(settings.getAppleCount());
+        out.put((byte) (settings.isBombEnabled() ? 1 : 0));
+        out.putShort((short) settings.getDelay());
+        out.putShort((short) Math.max(0, settings.getGameTime()));
+    }
+
+    // 환영 메시지의 본문(판 번호, 시드 다음)에서 설정 복원, 범위를 벗어난 값이면 IOException
+    public static GameSettings readSettings(ByteBuffer in) throws IOException {
+        try {
+            return new GameSettings()
+                    .setColumns(in.getShort() & 0xFFFF)
+                    .setRows(in.getShort() & 0xFFFF)
+                    .setAppleCount(in.getInt())
+                    .setBombEnabled(in.get() != 0)
+                    .setDelay(in.getShort() & 0xFFFF)
+                    .setGameTime(in.getShort() & 0xFFFF)
+                    .validate();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("잘못된 환영 메시지 설정: " + e.getMessage(), e);
+        }
+    }
+
+    public static boolean isDirection(byte b) {
+        return b == 'U' || b == 'D' || b == 'L' || b == 'R';
+    }
+}
@@ -0,0 +1,105 @@
+package snakegame.net;
+
+import snakegame.game.GameSettings;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 클라이언트 연결 하나.
+ * 읽기와 쓰기를 각각 가상 스레드 하나씩에서 블로킹 호출로 처리한다. 가상 스레드의 소켓 호출은 JDK가
+ * 논블로킹 채널과 폴러로 바꿔 실행하므로, 연결 수천 개가 OS 스레드 몇 개만 쓴다.
+ */
+final class Session {
+    private static final int OUTBOUND_CAPACITY = 4096; // 틱 메시지 약 370개
+
+    private final GameServer server;
+    private final SocketChannel channel;
+    private final Match match;
+    private volatile Thread writer;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Session(GameServer server, SocketChannel channel, int id, GameSettings settings, long seed, FramePool framePool) {
+        this.server = server;
+        this.channel = channel;
+        this.match = new Match(id, this, settings, seed, OUTBOUND_CAPACITY, framePool);
+
+        // 환영 메시지는 판이 틱 스레드에 넘어가기 전에 넣어 둠 (이 시점의 생산자는 접속 스레드 하나)
+        ByteBuffer welcome = ByteBuffer.allocate(Protocol.WELCOME_SIZE);
+        Protocol.putWelcome(welcome, id, seed, settings);
+        match.getOutbound().offer(welcome.array(), welcome.position());
+    }
+
+    Match getMatch() {
+        return match;
+    }
+
+    void start() {
+        writer = Thread.ofVirtual().name("session-writer").start(this::writeLoop);
+        Thread.ofVirtual().name("session-reader").start(this::readLoop);
+    }
+
+    // 보낼 메시지가 생겼거나 판이 끝났음을 쓰기 스레드에 알림
+    void wakeWriter() {
+        Thread t = writer;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    private void readLoop() {
+        ByteBuffer in = ByteBuffer.allocate(64);
+        try {
+            // 판이 끝난 뒤에도 클라이언트가 연결을 닫을 때까지 읽음 (남은 틱 메시지를 받기 전에 RST로 끊기지 않도록)
+            while (channel.read(in) >= 0) {
+                in.flip();
+                while (in.hasRemaining() && !match.isFinished()) {
+                    byte command = in.get();
+                    if (Protocol.isDirection(command)) {
+                        match.getInput().offer((char) command);
+                    } else if (command == Protocol.QUIT) {
+                        match.finish();
+                    }
+                }
+                in.clear();
+            }
+        } catch (IOException e) {
+            // 연결이 끊기거나 쓰기 스레드가 채널을 닫음
+        }
+        match.finish();
+        close();
+    }
+
+    private void writeLoop() {
+        OutboundBuffer outbound = match.getOutbound();
+        try {
+            while (true) {
+                if (!outbound.isEmpty()) {
+                    outbound.drainTo(channel);
+                } else if (match.isFinished()) {
+                    break;
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            // 남은 메시지를 다 보냈으면 보내기 쪽만 닫고, 연결은 클라이언트가 닫을 때 읽기 스레드가 정리
+            channel.shutdownOutput();
+        } catch (IOException e) {
+            match.finish();
+            close();
+        }
+    }
+
+    private void close() {
+        if (closed.getAndSet(true)) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+        server.sessionClosed(this);
+    }
+}
@@ -0,0 +1,192 @@
+package snakegame.net;
+
+import snakegame.game.GameEngine;
+import snakegame.game.GameSettings;
+import snakegame.game.SnakeBody;
+import snakegame.game.StepResult;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 상태 프레임(SnapshotFormat)을 받아 판 상태를 다시 만드는 쪽 (관전 화면, 원격 클라이언트용).
+ * 칸 상태는 GameEngine과 같은 값(EMPTY, SNAKE, APPLE, BOMB)으로 들고 있어 그리기 코드를 그대로 쓸 수 있다.
+ * 첫 키프레임을 받기 전의 델타는 무시한다.
+ */
+public class SnapshotDecoder {
+    private final int columns;
+    private final byte[] board;
+    private final SnakeBody snake = new SnakeBody(64);
+    private final int[] appleCells;
+    private int appleCellCount = 0;
+    private int bombCell = -1;
+    private char direction = 'R';
+    private int score = 0;
+    private long tickCount = 0;
+    private boolean synced = false;
+    private StepResult endResult = null; // 끝나지 않았으면 null
+
+    public SnapshotDecoder(GameSettings settings) {
+        this.columns = settings.getColumns();
+        this.board = new byte[columns * settings.getRows()];
+        this.appleCells = new int[Math.max(1, settings.getAppleCount())];
+    }
+
+    /**
+     * 프레임 하나를 적용. 아직 키프레임을 받지 못해 건너뛴 델타면 false.
+     */
+    public boolean apply(ByteBuffer frame) {
+        byte type = frame.get();
+        int flags = frame.get() & 0xFF;
+        StepResult result = null;
+        if ((flags & SnapshotFormat.FLAG_END) != 0) {
+            int code = frame.get() & 0xFF;
+            if (code >= StepResult.values().length) {
+                throw new IllegalStateException("알 수 없는 결과 코드: " + code);
+            }
+            result = StepResult.values()[code];
+        }
+        if (type == SnapshotFormat.KEYFRAME) {
+            applyKeyframe(frame);
+        } else if (type == SnapshotFormat.DELTA) {
+            if (!synced) return false;
+            applyDelta(frame, flags);
+        } else {
+            throw new IllegalStateException("알 수 없는 프레임: " + type);
+        }
+        endResult = result;
+        return true;
+    }
+
+    private void applyKeyframe(ByteBuffer frame) {
+        Arrays.fill(board, GameEngine.EMPTY);
+        snake.clear();
+        appleCellCount = 0;
+
+        tickCount = SnapshotFormat.getVarint(frame);
+        score = (int) SnapshotFormat.getVarint(frame);
+        direction = SnapshotFormat.DIRECTIONS.charAt(frame.get());
+
+        int length = (int) SnapshotFormat.getVarint(frame);
+        int cell = (int) SnapshotFormat.getVarint(frame);
+        addHead(cell);
+        int packed = 0;
+        for (int i = 1; i < length; i++) {
+            if (((i - 1) & 3) == 0) {
+                packed = frame.get();
+            }
+            cell = SnapshotFormat.move(cell, (packed >>> (((i - 1) & 3) << 1)) & 3, columns);
+            addHead(cell);
+        }
+
+        int apples = (int) SnapshotFormat.getVarint(frame);
+        for (int i = 0; i < apples; i++) {
+            addApple((int) SnapshotFormat.getVarint(frame));
+        }
+        setBomb((int) SnapshotFormat.getVarint(frame) - 1);
+        synced = true;
+    }
+
+    private void applyDelta(ByteBuffer frame, int flags) {
+        tickCount++;
+        if ((flags & SnapshotFormat.FLAG_TAIL) != 0) {
+            board[snake.removeTail()] = GameEngine.EMPTY;
+        }
+        if ((flags & SnapshotFormat.FLAG_HEAD) != 0) {
+            int code = flags >>> SnapshotFormat.DIRECTION_SHIFT;
+            int head = SnapshotFormat.move(snake.head(), code, columns);
+            direction = SnapshotFormat.DIRECTIONS.charAt(code);
+            if (board[head] == GameEngine.APPLE) {
+                removeApple(head);
+                score++;
+            }
+            addHead(head);
+        }
+        if ((flags & SnapshotFormat.FLAG_SPAWN) != 0) {
+            int spawned = (int) SnapshotFormat.getVarint(frame);
+            for (int i = 0; i < spawned; i++) {
+                addApple((int) SnapshotFormat.getVarint(frame));
+            }
+        }
+        if ((flags & SnapshotFormat.FLAG_BOMB) != 0) {
+            setBomb((int) SnapshotFormat.getVarint(frame) - 1);
+        }
+    }
+
+    private void addHead(int cell) {
+        snake.addHead(cell);
+        board[cell] = GameEngine.SNAKE;
+    }
+
+    private void addApple(int cell) {
+        appleCells[appleCellCount++] = cell;
+        board[cell] = GameEngine.APPLE;
+    }
+
+    // 먹은 사과를 목록에서 제거 (마지막 원소와 자리 바꿈)
+    private void removeApple(int cell) {
+        for (int i = 0; i < appleCellCount; i++) {
+            if (appleCells[i] == cell) {
+                appleCells[i] = appleCells[--appleCellCount];
+                return;
+            }
+        }
+    }
+
+    private void setBomb(int cell) {
+        if (bombCell >= 0 && board[bombCell] == GameEngine.BOMB) {
+            board[bombCell] = GameEngine.EMPTY;
+        }
+        bombCell = cell;
+        if (cell >= 0) {
+            board[cell] = GameEngine.BOMB;
+        }
+    }
+
+    // 첫 키프레임을 받았는지
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public byte getCell(int cell) {
+        return board[cell];
+    }
+
+    public int getLength() {
+        return snake.length();
+    }
+
+    // i번째 몸통 칸 (0 = 꼬리)
+    public int getSnakeCell(int i) {
+        return snake.get(i);
+    }
+
+    public int getAppleCellCount() {
+        return appleCellCount;
+    }
+
+    public int getAppleCell(int i) {
+        return appleCells[i];
+    }
+
+    public int getBombCell() {
+        return bombCell;
+    }
+
+    public char getDirection() {
+        return direction;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // 게임이 끝났으면 마지막 결과, 아니면 null
+    public StepResult getEndResult() {
+        return endResult;
+    }
+}
@@ -0,0 +1,142 @@
+package snakegame.net;
+
+import snakegame.game.ChangeSet;
+import snakegame.game.GameEngine;
+import snakegame.game.StepResult;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 판 하나의 상태를 틱마다 키프레임 또는 델타 프레임으로 씀 (SnapshotFormat).
+ * 직전에 보낸 머리, 길이, 폭탄만 기억하고, 새 사과는 엔진의 ChangeSet에서 찾으므로 틱 비용이 판 크기와 무관하다.
+ * 틱을 건너뛰었거나 판 전체가 바뀐 틱, 또는 일정 간격마다 키프레임을 보낸다.
+ * 엔진을 진행하는 스레드에서만 쓴다 (requestKeyframe() 제외).
+ */
+public class SnapshotEncoder {
+    private final int keyframeInterval;
+    private volatile boolean keyframeRequested = true;
+
+    private long lastTick = -1;
+    private int lastHead;
+    private int lastLength;
+    private int lastBomb;
+    private int sinceKeyframe;
+
+    public SnapshotEncoder(int keyframeInterval) {
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+    }
+
+    // 다음 프레임을 키프레임으로 (새 관전자가 붙었을 때 등, 어느 스레드에서나 호출 가능)
+    public void requestKeyframe() {
+        keyframeRequested = true;
+    }
+
+    /**
+     * 방금 진행한 틱의 프레임을 out에 씀. result는 그 틱의 step() 결과 (게임 시작 직후면 null).
+     * 키프레임을 썼으면 true.
+     */
+    public boolean encode(GameEngine engine, StepResult result, ByteBuffer out) {
+        long tick = engine.getTickCount();
+        boolean keyframe = keyframeRequested || tick != lastTick + 1 || engine.getChanges().isAll()
+                || ++sinceKeyframe >= keyframeInterval;
+        if (keyframe) {
+            keyframeRequested = false;
+            sinceKeyframe = 0;
+            writeKeyframe(engine, result, out);
+        } else {
+            writeDelta(engine, result, out);
+        }
+        lastTick = tick;
+        lastHead = engine.getHeadCell();
+        lastLength = engine.getLength();
+        lastBomb = engine.getBombCell();
+        return keyframe;
+    }
+
+    private void writeKeyframe(GameEngine engine, StepResult result, ByteBuffer out) {
+        boolean ended = result != null && result.isFatal();
+        out.put(SnapshotFormat.KEYFRAME);
+        out.put((byte) (ended ? SnapshotFormat.FLAG_END : 0));
+        if (ended) {
+            out.put((byte) result.ordinal());
+        }
+        SnapshotFormat.putVarint(out, engine.getTickCount());
+        SnapshotFormat.putVarint(out, engine.getScore());
+        out.put((byte) SnapshotFormat.DIRECTIONS.indexOf(engine.getDirection()));
+
+        // 뱀: 꼬리 칸 하나와 나머지 칸들의 방향 코드
+        int columns = engine.getColumns();
+        int length = engine.getLength();
+        SnapshotFormat.putVarint(out, length);
+        int prev = engine.getSnakeCell(0);
+        SnapshotFormat.putVarint(out, prev);
+        int packed = 0;
+        for (int i = 1; i < length; i++) {
+            int cell = engine.getSnakeCell(i);
+            packed |= SnapshotFormat.directionCode(prev, cell, columns) << (((i - 1) & 3) << 1);
+            if ((i & 3) == 0) {
+                out.put((byte) packed);
+                packed = 0;
+            }
+            prev = cell;
+        }
+        if (((length - 1) & 3) != 0) {
+            out.put((byte) packed);
+        }
+
+        SnapshotFormat.putVarint(out, engine.getAppleCellCount());
+        for (int i = 0; i < engine.getAppleCellCount(); i++) {
+            SnapshotFormat.putVarint(out, engine.getAppleCell(i));
+        }
+        SnapshotFormat.putVarint(out, engine.getBombCell() + 1);
+    }
+
+    private void writeDelta(GameEngine engine, StepResult result, ByteBuffer out) {
+        int head = engine.getHeadCell();
+        int flags = 0;
+        if (head != lastHead) {
+            flags |= SnapshotFormat.FLAG_HEAD
+                    | SnapshotFormat.directionCode(lastHead, head, engine.getColumns()) << SnapshotFormat.DIRECTION_SHIFT;
+            if (engine.getLength() == lastLength) {
+                flags |= SnapshotFormat.FLAG_TAIL;
+            }
+        }
+        if (engine.getBombCell() != lastBomb) {
+            flags |= SnapshotFormat.FLAG_BOMB;
+        }
+
+        // 새 사과: 이번 틱에 바뀐 칸 중 지금 사과가 있는 칸
+        ChangeSet changes = engine.getChanges();
+        int spawned = 0;
+        for (int i = 0; i < changes.size(); i++) {
+            if (engine.getCell(changes.get(i)) == GameEngine.APPLE) {
+                spawned++;
+            }
+        }
+        if (spawned > 0) {
+            flags |= SnapshotFormat.FLAG_SPAWN;
+        }
+        boolean ended = result != null && result.isFatal();
+        if (ended) {
+            flags |= SnapshotFormat.FLAG_END;
+        }
+
+        out.put(SnapshotFormat.DELTA);
+        out.put((byte) flags);
+        if (ended) {
+            out.put((byte) result.ordinal());
+        }
+        if (spawned > 0) {
+            SnapshotFormat.putVarint(out, spawned);
+            for (int i = 0; i < changes.size(); i++) {
+                int cell = changes.get(i);
+                if (engine.getCell(cell) == GameEngine.APPLE) {
+                    SnapshotFormat.putVarint(out, cell);
+                }
+            }
+        }
+        if ((flags & SnapshotFormat.FLAG_BOMB) != 0) {
+            SnapshotFormat.putVarint(out, engine.getBombCell() + 1);
+        }
+    }
+}
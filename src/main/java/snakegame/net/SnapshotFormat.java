@@ -0,0 +1,78 @@
+package snakegame.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 관전, 원격 동기화용 상태 프레임 형식.
+ *
+ * 공통: 종류(1) | 플래그(1) | [끝났으면 결과(StepResult 순번, 1)]
+ * 키프레임 'K': 틱, 점수, 방향 코드, 길이, 꼬리 칸(varint)
+ *              | 꼬리 다음 칸부터 머리까지 이전 칸에서 간 방향 코드(2비트씩, 한 바이트에 4개)
+ *              | 사과 개수, 사과 칸들(varint) | 폭탄 칸 + 1 (varint, 0이면 없음)
+ * 델타 'D': 직전 프레임 다음 틱의 변화만. 머리가 움직였으면 방향 코드는 플래그 위 2비트에 넣고
+ *          새 사과 개수, 사과 칸들(varint, FLAG_SPAWN일 때) | 폭탄 칸 + 1 (varint, FLAG_BOMB일 때)
+ *          먹은 사과와 점수는 머리가 사과 칸에 들어갔는지로 알 수 있으므로 따로 보내지 않는다.
+ * 대부분의 틱은 뱀만 한 칸 움직이므로 델타는 2바이트다.
+ */
+final class SnapshotFormat {
+    static final byte KEYFRAME = 'K';
+    static final byte DELTA = 'D';
+
+    static final int FLAG_HEAD = 1;   // 머리가 한 칸 나아감
+    static final int FLAG_TAIL = 2;   // 꼬리 한 칸 빠짐
+    static final int FLAG_BOMB = 4;   // 폭탄이 생기거나 옮겨지거나 사라짐
+    static final int FLAG_SPAWN = 8;  // 새 사과
+    static final int FLAG_END = 16;   // 이 틱으로 게임 종료
+    static final int DIRECTION_SHIFT = 6;
+
+    static final String DIRECTIONS = "UDLR"; // 방향 코드 0~3
+
+    private SnapshotFormat() {
+    }
+
+    // 키프레임이 가장 클 때의 크기 (뱀이 판을 가득 채운 경우)
+    static int maxFrameSize(int columns, int rows, int appleCount) {
+        int cells = columns * rows;
+        return 64 + (cells + 3) / 4 + (appleCount + 2) * 5;
+    }
+
+    // prev 칸에서 next 칸으로 가는 방향 코드
+    static int directionCode(int prev, int next, int columns) {
+        int diff = next - prev;
+        if (diff == -columns) return 0;
+        if (diff == columns) return 1;
+        if (diff == -1) return 2;
+        return 3;
+    }
+
+    // 방향 코드대로 한 칸 옮긴 칸
+    static int move(int cell, int code, int columns) {
+        switch (code) {
+            case 0: return cell - columns;
+            case 1: return cell + columns;
+            case 2: return cell - 1;
+            default: return cell + 1;
+        }
+    }
+
+    // 부호 없는 LEB128 varint (리플레이 파일과 같은 방식)
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("잘못된 varint");
+    }
+}
@@ -0,0 +1,85 @@
+package snakegame.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 판 하나를 지켜보는 연결.
+ * 틱 스레드가 넘긴 프레임을 큐에 받아 연결마다 가상 스레드 하나에서 소켓으로 내보낸다.
+ * 큐가 차면 (받는 속도가 틱을 못 따라오면) 틱 스레드를 붙잡지 않도록 끊는다.
+ */
+final class Spectator {
+    private static final FramePool.Frame END = new FramePool(0, 0).acquire(); // 스트림 끝 표시
+
+    private final SocketChannel channel;
+    private final ArrayBlockingQueue<FramePool.Frame> queue = new ArrayBlockingQueue<>(256);
+    private volatile boolean closed = false;
+
+    Spectator(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    // 프레임을 넘김 (틱 스레드), 받을 수 없으면 false. 넘긴 프레임의 참조 하나는 이쪽이 가짐
+    boolean offer(FramePool.Frame frame) {
+        if (closed) return false;
+        frame.retain();
+        if (queue.offer(frame)) return true;
+        frame.release();
+        closed = true;
+        return false;
+    }
+
+    // 판이 끝남, 쌓인 프레임을 다 보낸 뒤 연결을 닫음 (틱 스레드)
+    void end() {
+        if (!queue.offer(END)) {
+            closed = true;
+        }
+    }
+
+    /**
+     * 프레임을 차례로 내보냄 (이 연결의 가상 스레드에서 호출, 끝날 때까지 블로킹).
+     */
+    void stream() {
+        try {
+            while (true) {
+                FramePool.Frame frame = queue.take();
+                if (frame == END) break;
+                try {
+                    if (!closed) {
+                        ByteBuffer view = frame.view();
+                        while (view.hasRemaining()) {
+                            channel.write(view);
+                        }
+                    }
+                } finally {
+                    frame.release();
+                }
+                if (closed) break;
+            }
+            // 다 보냈으면 보내기 쪽만 닫고 관전자가 연결을 닫을 때까지 기다림
+            channel.shutdownOutput();
+            ByteBuffer sink = ByteBuffer.allocate(16);
+            while (channel.read(sink) >= 0) {
+                sink.clear();
+            }
+        } catch (IOException | InterruptedException e) {
+            // 관전자가 먼저 끊음
+        } finally {
+            closed = true;
+            for (FramePool.Frame frame; (frame = queue.poll()) != null; ) {
+                if (frame != END) frame.release();
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package snakegame.net;
+
+import snakegame.game.GameLoop;
+import snakegame.metrics.LatencyHistogram;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 여러 판을 한 스레드에서 같은 박자로 진행하는 틱 실행기.
+ * 서버는 코어 수만큼 만들고 새 판을 돌아가며 나눠 준다. 각 판은 자기 틱 스레드에서만 진행되므로
+ * 판 상태에는 잠금이 없고, 새 판은 큐로 넘겨받아 다음 틱부터 포함한다.
+ */
+final class TickShard implements GameLoop.Listener {
+    private final GameLoop loop;
+    private final ConcurrentLinkedQueue<Match> joining = new ConcurrentLinkedQueue<>();
+    private final ArrayList<Match> matches = new ArrayList<>();
+    private final ByteBuffer scratch = ByteBuffer.allocate(64);
+    private final LatencyHistogram tickTime; // 한 틱에 샤드의 모든 판을 진행한 시간
+    private volatile int matchCount = 0;
+
+    TickShard(int index, long tickMillis) {
+        tickTime = new LatencyHistogram("shard-" + index);
+        loop = new GameLoop(this, tickMillis, 1);
+    }
+
+    void start() {
+        loop.start();
+    }
+
+    void stop() {
+        loop.stop();
+    }
+
+    void add(Match match) {
+        joining.add(match);
+    }
+
+    @Override
+    public void tick() {
+        long start = System.nanoTime();
+        for (Match match; (match = joining.poll()) != null; ) {
+            matches.add(match);
+        }
+
+        // 끝난 판은 제자리에서 지우며 진행 (마지막 원소와 자리 바꿈)
+        for (int i = 0; i < matches.size(); ) {
+            Match match = matches.get(i);
+            if (!match.isFinished()) {
+                match.tick(scratch);
+            }
+            if (match.isFinished()) {
+                match.endSpectators();
+                int last = matches.size() - 1;
+                matches.set(i, matches.get(last));
+                matches.remove(last);
+            } else {
+                i++;
+            }
+        }
+        matchCount = matches.size();
+        tickTime.record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void render(double alpha) {
+        // 서버는 그리지 않음
+    }
+
+    int getMatchCount() {
+        return matchCount;
+    }
+
+    LatencyHistogram getTickTime() {
+        return tickTime;
+    }
+
+    long getLateTicks() {
+        return loop.getLateTicks();
+    }
+}
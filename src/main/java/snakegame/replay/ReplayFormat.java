@@ -0,0 +1,42 @@
+package snakegame.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 리플레이 파일 형식.
+ *
+ * 머리말: "SNKR" | 버전(1바이트) | 시드(8바이트) | 가로, 세로, 사과 개수(varint)
+ *        | 폭탄 사용(1바이트) | 틱 간격 ms, 제한 시간 초(varint)
+ * 본문:  입력이 바뀐 틱마다 varint((이전 입력 틱과의 차이 << 2) | 방향 코드)
+ *        틱 차이는 항상 1 이상이므로 값 0은 끝 표시
+ * 꼬리말: 0 | 마지막 틱 수, 점수(varint) | 마지막 결과(StepResult 순번, 1바이트)
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x534E4B52; // "SNKR"
+    static final byte VERSION = 2; // 2: 빈 칸을 칸 번호 순서로 고름 (1의 리플레이는 다르게 진행됨)
+    static final String DIRECTIONS = "UDLR"; // 방향 코드 0~3
+
+    private ReplayFormat() {
+    }
+
+    // 부호 없는 LEB128 varint (최대 10바이트)
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("잘못된 varint");
+    }
+}
@@ -0,0 +1,109 @@
+package snakegame.replay;
+
+import snakegame.game.GameEngine;
+import snakegame.game.StepResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 리플레이 파일을 화면 없이 최대 속도로 다시 실행하고
+ * 기록된 최종 틱 수, 점수, 결과와 일치하는지 검증한다.
+ *
+ * 사용법: java snakegame.replay.ReplayPlayer &lt;리플레이 파일&gt;...
+ */
+public class ReplayPlayer {
+
+    // 재생 결과
+    public static class Result {
+        private final boolean verified;
+        private final String message;
+        private final long ticks;
+        private final int score;
+        private final StepResult lastResult;
+
+        Result(boolean verified, String message, long ticks, int score, StepResult lastResult) {
+            this.verified = verified;
+            this.message = message;
+            this.ticks = ticks;
+            this.score = score;
+            this.lastResult = lastResult;
+        }
+
+        public boolean isVerified() {
+            return verified;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public StepResult getLastResult() {
+            return lastResult;
+        }
+    }
+
+    public static Result play(Path file) throws IOException {
+        try (ReplayReader reader = new ReplayReader(file)) {
+            GameEngine engine = new GameEngine(reader.getSettings(), reader.getSeed());
+            StepResult last = StepResult.MOVED;
+
+            // 다음 입력 틱 전까지는 현재 방향 그대로 진행
+            while (reader.nextInput()) {
+                while (engine.getTickCount() + 1 < reader.getInputTick() && engine.isRunning()) {
+                    last = engine.step(engine.getDirection());
+                }
+                if (!engine.isRunning()) {
+                    return new Result(false, "기록된 입력보다 먼저 게임이 끝났습니다",
+                            engine.getTickCount(), engine.getScore(), last);
+                }
+                last = engine.step(reader.getInputDirection());
+            }
+
+            if (!reader.hasFooter()) {
+                return new Result(false, "꼬리말이 없는 (잘린) 리플레이입니다",
+                        engine.getTickCount(), engine.getScore(), last);
+            }
+            while (engine.getTickCount() < reader.getFinalTick() && engine.isRunning()) {
+                last = engine.step(engine.getDirection());
+            }
+
+            boolean verified = engine.getTickCount() == reader.getFinalTick()
+                    && engine.getScore() == reader.getFinalScore()
+                    && last == reader.getFinalResult();
+            String message = verified ? "일치"
+                    : String.format("불일치: 기록 %d틱 %d점 %s, 재생 %d틱 %d점 %s",
+                    reader.getFinalTick(), reader.getFinalScore(), reader.getFinalResult(),
+                    engine.getTickCount(), engine.getScore(), last);
+            return new Result(verified, message, engine.getTickCount(), engine.getScore(), last);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("사용법: ReplayPlayer <리플레이 파일>...");
+            return;
+        }
+        boolean allVerified = true;
+        for (String arg : args) {
+            long start = System.nanoTime();
+            Result result = play(Paths.get(arg));
+            long micros = (System.nanoTime() - start) / 1000;
+            System.out.printf("%s: %s (%d틱, %d점, %s, %dus)%n", arg, result.getMessage(),
+                    result.getTicks(), result.getScore(), result.getLastResult(), micros);
+            allVerified &= result.isVerified();
+        }
+        if (!allVerified) {
+            System.exit(1);
+        }
+    }
+}
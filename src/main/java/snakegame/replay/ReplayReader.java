@@ -0,0 +1,141 @@
+package snakegame.replay;
+
+import snakegame.game.GameSettings;
+import snakegame.game.StepResult;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 리플레이 파일을 앞에서부터 조금씩 읽는 리더 (파일 전체를 메모리에 올리지 않음).
+ */
+public class ReplayReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_RECORD_SIZE = 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private boolean endOfFile = false;
+
+    private final long seed;
+    private final GameSettings settings;
+
+    private long inputTick = 0;        // 마지막으로 읽은 입력의 틱
+    private char inputDirection = 0;   // 마지막으로 읽은 입력의 방향
+    private boolean hasFooter = false; // 끝 표시까지 읽었는지
+    private long finalTick;
+    private int finalScore;
+    private StepResult finalResult;
+
+    public ReplayReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.flip(); // 빈 상태로 시작
+        fill();
+
+        if (buffer.remaining() < 5 || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("리플레이 파일이 아닙니다: " + file);
+        }
+        byte version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("지원하지 않는 리플레이 버전: " + version);
+        }
+        seed = buffer.getLong();
+        try {
+            settings = new GameSettings()
+                    .setColumns((int) ReplayFormat.getVarint(buffer))
+                    .setRows((int) ReplayFormat.getVarint(buffer))
+                    .setAppleCount((int) ReplayFormat.getVarint(buffer))
+                    .setBombEnabled(buffer.get() != 0)
+                    .setDelay((int) ReplayFormat.getVarint(buffer))
+                    .setGameTime((int) ReplayFormat.getVarint(buffer));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("잘못된 리플레이 설정: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다음 입력으로 이동. 입력이 더 없으면(끝 표시 또는 파일 끝) false.
+     */
+    public boolean nextInput() throws IOException {
+        if (hasFooter) return false;
+        fill();
+        if (!buffer.hasRemaining()) {
+            return false; // 꼬리말 없이 끝난 파일
+        }
+        try {
+            long value = ReplayFormat.getVarint(buffer);
+            if (value == 0) {
+                finalTick = ReplayFormat.getVarint(buffer);
+                finalScore = (int) ReplayFormat.getVarint(buffer);
+                int code = buffer.get() & 0xFF;
+                if (code >= StepResult.values().length) {
+                    throw new IOException("잘못된 결과 코드");
+                }
+                finalResult = StepResult.values()[code];
+                hasFooter = true;
+                return false;
+            }
+            inputTick += value >>> 2;
+            inputDirection = ReplayFormat.DIRECTIONS.charAt((int) (value & 3));
+            return true;
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("리플레이가 레코드 중간에서 잘렸습니다");
+        }
+    }
+
+    public long getInputTick() {
+        return inputTick;
+    }
+
+    public char getInputDirection() {
+        return inputDirection;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameSettings getSettings() {
+        return settings;
+    }
+
+    public boolean hasFooter() {
+        return hasFooter;
+    }
+
+    public long getFinalTick() {
+        return finalTick;
+    }
+
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    public StepResult getFinalResult() {
+        return finalResult;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // 남은 바이트가 레코드 하나보다 적으면 파일에서 더 읽음
+    private void fill() throws IOException {
+        if (endOfFile || buffer.remaining() >= MAX_RECORD_SIZE) return;
+        buffer.compact();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+                break;
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,96 @@
+package snakegame.replay;
+
+import snakegame.game.GameEngine;
+import snakegame.game.GameSettings;
+import snakegame.game.StepResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 게임 한 판의 입력을 리플레이 파일로 기록.
+ * 방향이 바뀐 틱만 varint 한두 바이트로 남기고, 버퍼가 차면 바로 파일에 쓰므로
+ * 게임이 길어져도 메모리에 쌓아 두지 않는다.
+ */
+public class ReplayWriter implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_RECORD_SIZE = 16; // 레코드 하나의 최대 크기 (varint 10바이트 + 여유)
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long lastInputTick = 0;
+    private boolean finished = false;
+
+    public ReplayWriter(Path file, GameSettings settings, long seed) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.put(ReplayFormat.VERSION);
+        buffer.putLong(seed);
+        ReplayFormat.putVarint(buffer, settings.getColumns());
+        ReplayFormat.putVarint(buffer, settings.getRows());
+        ReplayFormat.putVarint(buffer, settings.getAppleCount());
+        buffer.put((byte) (settings.isBombEnabled() ? 1 : 0));
+        ReplayFormat.putVarint(buffer, settings.getDelay());
+        ReplayFormat.putVarint(buffer, Math.max(0, settings.getGameTime()));
+    }
+
+    /**
+     * 입력을 기록하고 엔진을 한 틱 진행.
+     * 엔진 방향이 실제로 바뀌는 입력만 남긴다 (같은 방향, 역방향 입력은 엔진이 무시하므로 생략).
+     */
+    public StepResult step(GameEngine engine, char direction) throws IOException {
+        char current = engine.getDirection();
+        if (direction != current && !GameEngine.isReverse(direction, current)) {
+            long tick = engine.getTickCount() + 1;
+            ensureSpace();
+            ReplayFormat.putVarint(buffer, ((tick - lastInputTick) << 2) | ReplayFormat.DIRECTIONS.indexOf(direction));
+            lastInputTick = tick;
+        }
+        return engine.step(direction);
+    }
+
+    /**
+     * 끝 표시와 최종 상태(틱 수, 점수, 결과)를 쓰고 파일을 닫음.
+     * 게임 중간에 그만둔 경우에도 그 시점 상태로 기록하면 재생 검증이 가능하다.
+     */
+    public void finish(GameEngine engine, StepResult lastResult) throws IOException {
+        if (finished) return;
+        ensureSpace();
+        ReplayFormat.putVarint(buffer, 0);
+        ReplayFormat.putVarint(buffer, engine.getTickCount());
+        ReplayFormat.putVarint(buffer, engine.getScore());
+        buffer.put((byte) lastResult.ordinal());
+        finished = true;
+        close();
+    }
+
+    // 꼬리말 없이 닫힌 파일은 재생 시 잘린 리플레이로 보고됨
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) return;
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureSpace() throws IOException {
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
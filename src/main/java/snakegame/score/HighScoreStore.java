@@ -0,0 +1,212 @@
+package snakegame.score;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 끝난 게임을 모두 남기는 최고 점수 저장소.
+ *
+ * 파일은 머리말 뒤에 고정 크기 레코드를 이어 붙이기만 하는 로그이며, 일정 크기 구간(segment)
+ * 단위로 메모리 매핑해서 쓴다. 레코드마다 CRC32를 마지막에 기록하므로, 쓰는 도중 프로세스가
+ * 죽어도 다음 실행 때 CRC가 맞지 않는 첫 레코드에서 로그가 끝난 것으로 보고 그 자리부터 다시 쓴다.
+ *
+ * 순위 조회는 설정(사과 개수, 가로, 세로)별 상위 N개 인덱스를 메모리에 두고 답한다.
+ * 인덱스는 열 때 로그를 한 번 훑어서 만들고 이후로는 추가할 때마다 갱신한다.
+ */
+public class HighScoreStore implements Closeable {
+    private static final int MAGIC = 0x534E4B53; // "SNKS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;   // 매직 | 버전 | 레코드 크기 | 예약
+
+    // 레코드: 시각(8) | 시드(8) | 점수(4) | 가로(4) | 세로(4) | 게임 시간 ms(4) | 사과(1) | 예약(3) | CRC32(4)
+    static final int RECORD_SIZE = 40;
+    private static final int CRC_OFFSET = 36;
+    private static final int RECORDS_PER_SEGMENT = 1 << 16; // 구간 하나 약 2.5MB
+
+    private final FileChannel channel;
+    private final int topN;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Map<Long, Leaderboard> leaderboards = new HashMap<>();
+    private final CRC32 crc = new CRC32();
+    private long recordCount = 0;
+
+    public HighScoreStore(Path file, int topN) throws IOException {
+        this.topN = topN;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            openHeader();
+            recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 한 판의 기록을 추가하고 디스크에 반영.
+     */
+    public synchronized void append(ScoreRecord record) throws IOException {
+        MappedByteBuffer segment = segmentFor(recordCount);
+        int offset = (int) (recordCount % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+
+        segment.putLong(offset, record.getTimestamp());
+        segment.putLong(offset + 8, record.getSeed());
+        segment.putInt(offset + 16, record.getScore());
+        segment.putInt(offset + 20, record.getColumns());
+        segment.putInt(offset + 24, record.getRows());
+        segment.putInt(offset + 28, record.getDurationMillis());
+        segment.put(offset + 32, (byte) record.getAppleCount());
+        segment.put(offset + 33, (byte) 0);
+        segment.putShort(offset + 34, (short) 0);
+        // 본문을 다 쓴 뒤 마지막에 CRC를 써서 레코드를 완성
+        segment.putInt(offset + CRC_OFFSET, checksum(segment, offset));
+        segment.force(offset, RECORD_SIZE);
+
+        index(recordCount, record.getScore(), record.getAppleCount(), record.getColumns(), record.getRows());
+        recordCount++;
+    }
+
+    // 설정별 최고 점수, 기록이 없으면 0
+    public synchronized int getBestScore(int appleCount, int columns, int rows) {
+        Leaderboard board = leaderboards.get(key(appleCount, columns, rows));
+        return board == null || board.size == 0 ? 0 : board.scores[0];
+    }
+
+    /**
+     * 설정별 상위 기록 (점수 내림차순, 같은 점수면 먼저 세운 기록이 앞).
+     */
+    public synchronized List<ScoreRecord> getLeaderboard(int appleCount, int columns, int rows, int limit) {
+        Leaderboard board = leaderboards.get(key(appleCount, columns, rows));
+        List<ScoreRecord> result = new ArrayList<>();
+        if (board == null) return result;
+
+        int count = Math.min(limit, board.size);
+        for (int i = 0; i < count; i++) {
+            result.add(read(board.records[i]));
+        }
+        return result;
+    }
+
+    // 저장된 전체 게임 수
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    public synchronized ScoreRecord read(long index) {
+        MappedByteBuffer segment = segments.get((int) (index / RECORDS_PER_SEGMENT));
+        int offset = (int) (index % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+        return new ScoreRecord(
+                segment.getLong(offset),
+                segment.getLong(offset + 8),
+                segment.getInt(offset + 16),
+                segment.get(offset + 32),
+                segment.getInt(offset + 20),
+                segment.getInt(offset + 24),
+                segment.getInt(offset + 28));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        segments.clear(); // 매핑은 GC가 해제
+        channel.close();
+    }
+
+    private void openHeader() throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.BIG_ENDIAN);
+        int magic = header.getInt(0);
+        if (magic == 0) {
+            // 새 파일
+            header.putInt(4, VERSION);
+            header.putInt(8, RECORD_SIZE);
+            header.putInt(0, MAGIC);
+            header.force();
+            return;
+        }
+        if (magic != MAGIC) {
+            throw new IOException("최고 점수 파일이 아닙니다");
+        }
+        if (header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+            throw new IOException("지원하지 않는 최고 점수 파일 버전: " + header.getInt(4));
+        }
+    }
+
+    // 로그를 처음부터 훑어 CRC가 맞는 레코드까지를 유효한 기록으로 보고 인덱스를 만듦
+    private void recover() throws IOException {
+        long existing = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        while (recordCount < existing) {
+            MappedByteBuffer segment = segmentFor(recordCount);
+            int offset = (int) (recordCount % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+            if (segment.getInt(offset + CRC_OFFSET) != checksum(segment, offset)) {
+                break; // 쓰다 만 레코드 또는 아직 쓰지 않은 영역
+            }
+            index(recordCount, segment.getInt(offset + 16), segment.get(offset + 32),
+                    segment.getInt(offset + 20), segment.getInt(offset + 24));
+            recordCount++;
+        }
+    }
+
+    // 레코드가 들어갈 구간을 매핑 (파일 끝을 넘으면 파일이 늘어남)
+    private MappedByteBuffer segmentFor(long index) throws IOException {
+        int segmentIndex = (int) (index / RECORDS_PER_SEGMENT);
+        while (segments.size() <= segmentIndex) {
+            long position = HEADER_SIZE + (long) segments.size() * RECORDS_PER_SEGMENT * RECORD_SIZE;
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, position, (long) RECORDS_PER_SEGMENT * RECORD_SIZE));
+        }
+        return segments.get(segmentIndex);
+    }
+
+    private int checksum(MappedByteBuffer segment, int offset) {
+        crc.reset();
+        crc.update(segment.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private void index(long record, int score, int appleCount, int columns, int rows) {
+        leaderboards.computeIfAbsent(key(appleCount, columns, rows), k -> new Leaderboard(topN))
+                .offer(record, score);
+    }
+
+    private static long key(int appleCount, int columns, int rows) {
+        return ((long) (appleCount & 0xFF) << 56) | ((long) (columns & 0xFFFFFFF) << 28) | (rows & 0xFFFFFFF);
+    }
+
+    // 설정 하나의 상위 N개 (점수 내림차순 정렬 배열)
+    private static class Leaderboard {
+        final int[] scores;
+        final long[] records;
+        int size;
+
+        Leaderboard(int capacity) {
+            scores = new int[capacity];
+            records = new long[capacity];
+        }
+
+        void offer(long record, int score) {
+            if (size == scores.length && score <= scores[size - 1]) {
+                return; // 대부분의 기록은 여기서 끝남
+            }
+            int i = Math.min(size, scores.length - 1);
+            while (i > 0 && scores[i - 1] < score) {
+                scores[i] = scores[i - 1];
+                records[i] = records[i - 1];
+                i--;
+            }
+            scores[i] = score;
+            records[i] = record;
+            if (size < scores.length) {
+                size++;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package snakegame.score;
+
+/**
+ * 끝난 게임 한 판의 기록.
+ */
+public class ScoreRecord {
+    private final long timestamp;      // 게임이 끝난 시각 (epoch ms)
+    private final long seed;           // 엔진 시드 (리플레이 파일과 대조용)
+    private final int score;
+    private final int appleCount;
+    private final int columns;
+    private final int rows;
+    private final int durationMillis;  // 게임 시간 (틱 수 x 틱 간격)
+
+    public ScoreRecord(long timestamp, long seed, int score, int appleCount, int columns, int rows, int durationMillis) {
+        this.timestamp = timestamp;
+        this.seed = seed;
+        this.score = score;
+        this.appleCount = appleCount;
+        this.columns = columns;
+        this.rows = rows;
+        this.durationMillis = durationMillis;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getAppleCount() {
+        return appleCount;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d점 (사과 %d개, %dx%d, %.1f초, 시드 %016x)",
+                score, appleCount, columns, rows, durationMillis / 1000.0, seed);
+    }
+}
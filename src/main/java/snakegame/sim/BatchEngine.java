@@ -0,0 +1,423 @@
+package snakegame.sim;
+
+import snakegame.game.FreeCells;
+import snakegame.game.GameEngine;
+import snakegame.game.GameRandom;
+import snakegame.game.GameSettings;
+import snakegame.game.StepResult;
+
+import java.util.Arrays;
+
+/**
+ * 같은 설정의 게임 여러 판을 배열 묶음(struct-of-arrays)으로 들고 한 번의 step()으로 모두 진행하는 엔진.
+ *
+ * 판마다 객체를 만드는 대신 머리 좌표, 이동 방향, 몸통 링 버퍼, 점유 비트셋, 빈 칸 목록을
+ * 판 번호로 나눈 기본형 배열에 담는다. 규칙과 난수 사용 순서는 GameEngine과 완전히 같아서
+ * 같은 시드와 입력이면 판마다 GameEngine과 같은 결과가 나온다.
+ *
+ * step()은 두 단계로 나뉜다. 다음 머리 좌표 계산은 분기 없는 배열 연산이라 JIT가 여러 판을
+ * 한 번에 처리하는 SIMD 코드로 바꿀 수 있고, 충돌 판정과 사과, 폭탄 처리는 판별로 진행한다.
+ */
+public class BatchEngine {
+    private static final StepResult[] RESULTS = StepResult.values();
+    private static final byte RUNNING = -1;
+
+    private final int games;
+    private final int columns;
+    private final int rows;
+    private final int cells;
+    private final int appleCount;
+    private final boolean bombEnabled;
+    private final long tickLimit;
+
+    private final int words;      // 판 하나의 비트셋 long 개수
+    private final int ringMask;   // 몸통 링 버퍼 크기 - 1 (판 하나당)
+    private final int treeStep;   // 빈 칸 트리를 내려갈 때 처음 보폭
+
+    // 판별 상태 (인덱스 = 판 번호)
+    private final int[] headX;
+    private final int[] headY;
+    private final int[] dirX;     // 이동 방향 (-1, 0, 1)
+    private final int[] dirY;
+    private final int[] nextX;    // step() 1단계 결과
+    private final int[] nextY;
+    private final int[] tailIndex; // 링 버퍼 안의 꼬리 위치
+    private final int[] length;
+    private final int[] bomb;     // 폭탄이 없으면 -1
+    private final int[] appleCounts; // 놓인 사과 수
+    private final int[] score;
+    private final long[] ticks;
+    private final long[] rng;     // 판별 SplitMix64 상태
+    private final byte[] result;  // 마지막 결과 (StepResult 순번), 진행 중이면 RUNNING
+    private final int[] freeSize;
+
+    // 판별 구간으로 나눈 배열 (판 g의 구간 = [g * 크기, (g + 1) * 크기))
+    private final int[] body;     // 몸통 링 버퍼
+    private final long[] snakeBits;
+    private final long[] appleBits;
+    private final int[] apples;   // 사과 칸 목록
+    private final long[] freeBits; // 빈 칸 비트 (GameEngine의 FreeCells와 같은 방식)
+    private final int[] freeTree;  // 워드별 빈 칸 수의 펜윅 트리 (판 하나당 words + 1개, 1부터)
+
+    private int runningCount;
+
+    public BatchEngine(GameSettings settings, long[] seeds) {
+        settings.validate();
+        games = seeds.length;
+        columns = settings.getColumns();
+        rows = settings.getRows();
+        cells = columns * rows;
+        appleCount = settings.getAppleCount();
+        bombEnabled = settings.isBombEnabled();
+        tickLimit = settings.getGameTime() > 0 ? settings.getGameTime() * 1000L / settings.getDelay() : 0;
+
+        words = (cells + 63) >>> 6;
+        int ring = Integer.highestOneBit(Math.max(2, cells - 1)) << 1;
+        ringMask = ring - 1;
+        treeStep = Integer.highestOneBit(words);
+
+        headX = new int[games];
+        headY = new int[games];
+        dirX = new int[games];
+        dirY = new int[games];
+        nextX = new int[games];
+        nextY = new int[games];
+        tailIndex = new int[games];
+        length = new int[games];
+        bomb = new int[games];
+        appleCounts = new int[games];
+        score = new int[games];
+        ticks = new long[games];
+        rng = new long[games];
+        result = new byte[games];
+        freeSize = new int[games];
+
+        body = new int[games * ring];
+        snakeBits = new long[games * words];
+        appleBits = new long[games * words];
+        apples = new int[games * Math.max(1, appleCount)];
+        freeBits = new long[games * words];
+        freeTree = new int[games * (words + 1)];
+
+        for (int g = 0; g < games; g++) {
+            reset(g, seeds[g]);
+        }
+    }
+
+    // 판 하나를 새 시드로 처음 상태로 (GameEngine 생성 직후와 같은 상태)
+    public void reset(int g, long seed) {
+        if (result[g] == RUNNING) {
+            runningCount--;
+        }
+        rng[g] = seed;
+        Arrays.fill(snakeBits, g * words, (g + 1) * words, 0L);
+        Arrays.fill(appleBits, g * words, (g + 1) * words, 0L);
+        int treeBase = g * (words + 1);
+        Arrays.fill(freeTree, treeBase, treeBase + words + 1, 0);
+        for (int w = 0; w < words; w++) {
+            int count = Math.min(64, cells - (w << 6));
+            freeBits[g * words + w] = count == 64 ? -1L : (1L << count) - 1;
+            freeTree[treeBase + w + 1] = count;
+        }
+        for (int i = 1; i <= words; i++) {
+            int parent = i + (i & -i);
+            if (parent <= words) {
+                freeTree[treeBase + parent] += freeTree[treeBase + i];
+            }
+        }
+        freeSize[g] = cells;
+
+        // 왼쪽 위에서 오른쪽을 향한 길이 3의 뱀
+        tailIndex[g] = 0;
+        length[g] = 0;
+        for (int i = 0; i < GameEngine.INITIAL_LENGTH; i++) {
+            body[g * (ringMask + 1) + i] = i;
+            length[g]++;
+            setBit(snakeBits, g, i);
+            removeFree(g, i);
+        }
+        headX[g] = GameEngine.INITIAL_LENGTH - 1;
+        headY[g] = 0;
+        dirX[g] = 1;
+        dirY[g] = 0;
+
+        appleCounts[g] = 0;
+        bomb[g] = -1;
+        for (int i = 0; i < appleCount; i++) {
+            if (!newApple(g)) break;
+        }
+        if (bombEnabled) {
+            newBomb(g);
+        }
+        score[g] = 0;
+        ticks[g] = 0;
+        result[g] = RUNNING;
+        runningCount++;
+    }
+
+    /**
+     * 모든 진행 중인 판을 한 틱 진행. directions[g]는 판 g의 입력 ('U', 'D', 'L', 'R').
+     * 끝난 판은 건너뛴다. 진행 중인 판 수를 돌려준다.
+     */
+    public int step(char[] directions) {
+        // 0단계: 방향 갱신 (역방향 입력은 무시)
+        for (int g = 0; g < games; g++) {
+            int dx = 0;
+            int dy = 0;
+            switch (directions[g]) {
+                case 'U': dy = -1; break;
+                case 'D': dy = 1; break;
+                case 'L': dx = -1; break;
+                case 'R': dx = 1; break;
+            }
+            if (dx != -dirX[g] || dy != -dirY[g]) {
+                dirX[g] = dx;
+                dirY[g] = dy;
+            }
+        }
+
+        // 1단계: 다음 머리 좌표 (분기 없는 배열 연산)
+        for (int g = 0; g < games; g++) {
+            nextX[g] = headX[g] + dirX[g];
+            nextY[g] = headY[g] + dirY[g];
+        }
+
+        // 2단계: 판별 충돌 판정과 이동
+        for (int g = 0; g < games; g++) {
+            if (result[g] == RUNNING) {
+                advance(g);
+            }
+        }
+        return runningCount;
+    }
+
+    private void advance(int g) {
+        ticks[g]++;
+        int x = nextX[g];
+        int y = nextY[g];
+
+        // 벽과 충돌 확인
+        if (x < 0 || x >= columns || y < 0 || y >= rows) {
+            end(g, StepResult.HIT_WALL);
+            return;
+        }
+
+        int cell = y * columns + x;
+        // 폭탄과 충돌 확인
+        if (cell == bomb[g]) {
+            end(g, StepResult.HIT_BOMB);
+            return;
+        }
+
+        // 자기 몸과 충돌 확인 (사과를 먹지 않으면 꼬리는 이번 틱에 비워지므로 제외)
+        int ringBase = g * (ringMask + 1);
+        int tail = body[ringBase + tailIndex[g]];
+        if (testBit(snakeBits, g, cell) && cell != tail) {
+            end(g, StepResult.HIT_SELF);
+            return;
+        }
+
+        headX[g] = x;
+        headY[g] = y;
+        if (!testBit(appleBits, g, cell)) {
+            // 꼬리를 먼저 비운 뒤 머리 추가
+            clearBit(snakeBits, g, tail);
+            addFree(g, tail);
+            tailIndex[g] = (tailIndex[g] + 1) & ringMask;
+            body[ringBase + ((tailIndex[g] + length[g] - 1) & ringMask)] = cell;
+            setBit(snakeBits, g, cell);
+            removeFree(g, cell);
+            checkTimeUp(g);
+            return;
+        }
+
+        // 사과를 먹었을 때
+        removeApple(g, cell);
+        body[ringBase + ((tailIndex[g] + length[g]) & ringMask)] = cell;
+        length[g]++;
+        setBit(snakeBits, g, cell);
+        removeFree(g, cell);
+        score[g]++;
+        newApple(g);
+
+        // 폭탄이 없으면 생성, 있으면 이동
+        if (bombEnabled) {
+            if (bomb[g] >= 0) {
+                addFree(g, bomb[g]);
+                bomb[g] = -1;
+            }
+            newBomb(g);
+        }
+
+        // 남은 사과도 없고 새로 놓을 칸도 없으면 더 이상 자랄 수 없음
+        if (appleCounts[g] == 0 && freeSize[g] == 0) {
+            end(g, length[g] == cells ? StepResult.WON : StepResult.STALEMATE);
+            return;
+        }
+        checkTimeUp(g);
+    }
+
+    private void checkTimeUp(int g) {
+        if (tickLimit > 0 && ticks[g] >= tickLimit) {
+            end(g, StepResult.TIME_UP);
+        }
+    }
+
+    private void end(int g, StepResult r) {
+        result[g] = (byte) r.ordinal();
+        runningCount--;
+    }
+
+    private boolean newApple(int g) {
+        int cell = pickFree(g);
+        if (cell < 0) return false;
+        apples[g * appleCount + appleCounts[g]++] = cell;
+        setBit(appleBits, g, cell);
+        removeFree(g, cell);
+        return true;
+    }
+
+    private void newBomb(int g) {
+        int cell = pickFree(g);
+        if (cell < 0) return;
+        bomb[g] = cell;
+        removeFree(g, cell);
+    }
+
+    // 먹은 사과를 목록에서 제거 (마지막 원소와 자리 바꿈)
+    private void removeApple(int g, int cell) {
+        int base = g * appleCount;
+        for (int i = 0; i < appleCounts[g]; i++) {
+            if (apples[base + i] == cell) {
+                apples[base + i] = apples[base + --appleCounts[g]];
+                break;
+            }
+        }
+        clearBit(appleBits, g, cell);
+    }
+
+    // 빈 칸 집합 (FreeCells와 같은 방식, 칸 번호 순서로 k번째 빈 칸을 고름)
+    private int pickFree(int g) {
+        if (freeSize[g] == 0) return -1;
+        int k = nextInt(g, freeSize[g]);
+        int treeBase = g * (words + 1);
+        int w = 0;
+        for (int step = treeStep; step > 0; step >>>= 1) {
+            int next = w + step;
+            if (next <= words && freeTree[treeBase + next] <= k) {
+                w = next;
+                k -= freeTree[treeBase + next];
+            }
+        }
+        return (w << 6) + FreeCells.selectBit(freeBits[g * words + w], k);
+    }
+
+    private void removeFree(int g, int cell) {
+        if (!testBit(freeBits, g, cell)) return;
+        clearBit(freeBits, g, cell);
+        freeSize[g]--;
+        updateFreeTree(g, cell, -1);
+    }
+
+    private void addFree(int g, int cell) {
+        if (testBit(freeBits, g, cell)) return;
+        setBit(freeBits, g, cell);
+        freeSize[g]++;
+        updateFreeTree(g, cell, 1);
+    }
+
+    private void updateFreeTree(int g, int cell, int delta) {
+        int treeBase = g * (words + 1);
+        for (int i = (cell >>> 6) + 1; i <= words; i += i & -i) {
+            freeTree[treeBase + i] += delta;
+        }
+    }
+
+    // GameRandom.nextInt와 같은 수열
+    private int nextInt(int g, int bound) {
+        int r = (int) (nextLong(g) >>> 33);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong(g) >>> 33)) {
+            // 편향이 생기는 구간이면 다시 뽑음
+        }
+        return r;
+    }
+
+    private long nextLong(int g) {
+        return GameRandom.mix(rng[g] += GameRandom.GAMMA);
+    }
+
+    private boolean testBit(long[] bits, int g, int cell) {
+        return (bits[g * words + (cell >>> 6)] & (1L << cell)) != 0;
+    }
+
+    private void setBit(long[] bits, int g, int cell) {
+        bits[g * words + (cell >>> 6)] |= 1L << cell;
+    }
+
+    private void clearBit(long[] bits, int g, int cell) {
+        bits[g * words + (cell >>> 6)] &= ~(1L << cell);
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    public boolean isRunning(int g) {
+        return result[g] == RUNNING;
+    }
+
+    // 끝난 판의 종료 사유, 진행 중이면 MOVED
+    public StepResult getResult(int g) {
+        return result[g] == RUNNING ? StepResult.MOVED : RESULTS[result[g]];
+    }
+
+    public int getScore(int g) {
+        return score[g];
+    }
+
+    public int getLength(int g) {
+        return length[g];
+    }
+
+    public long getTickCount(int g) {
+        return ticks[g];
+    }
+
+    public int getHeadCell(int g) {
+        return headY[g] * columns + headX[g];
+    }
+
+    public int getBombCell(int g) {
+        return bomb[g];
+    }
+
+    public int getAppleCellCount(int g) {
+        return appleCounts[g];
+    }
+
+    public int getAppleCell(int g, int i) {
+        return apples[g * appleCount + i];
+    }
+
+    public char getDirection(int g) {
+        if (dirY[g] < 0) return 'U';
+        if (dirY[g] > 0) return 'D';
+        return dirX[g] < 0 ? 'L' : 'R';
+    }
+}
@@ -0,0 +1,111 @@
+package snakegame.sim;
+
+import snakegame.bot.Controllers;
+import snakegame.bot.SnakeController;
+import snakegame.game.GameEngine;
+import snakegame.game.GameRandom;
+import snakegame.game.GameSettings;
+import snakegame.game.StepResult;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * 창 없이 여러 판을 동시에 돌리는 일괄 자동 플레이.
+ *
+ * 판마다 시드와 정책 객체를 따로 쓰고 서로 아무것도 공유하지 않으므로, 판 범위를 반씩 나누는
+ * fork-join 작업으로 나눠 돌리고 작업별 집계를 마지막에 합친다. 판 i의 시드는 기준 시드와 i로
+ * 정해지므로 스레드 수와 상관없이 같은 결과가 나온다.
+ *
+ * 사용법: java -Dsnake.appleCount=3 -Dsnake.bot=bfs snakegame.sim.BatchRunner [판 수] [스레드 수] [기준 시드]
+ */
+public class BatchRunner {
+    private static final int GAMES_PER_TASK = 16; // 더 나누지 않고 한 작업이 직접 돌리는 판 수
+
+    private final GameSettings settings;
+    private final Supplier<? extends SnakeController> controllers;
+    private final long maxTicks; // 시간 제한이 없는 설정에서 빙빙 도는 정책을 끊기 위한 상한
+
+    public BatchRunner(GameSettings settings, Supplier<? extends SnakeController> controllers, long maxTicks) {
+        this.settings = settings.copy();
+        this.controllers = controllers;
+        this.maxTicks = maxTicks;
+    }
+
+    public BatchStats run(ForkJoinPool pool, int games, long baseSeed) {
+        return pool.invoke(new Games(0, games, baseSeed));
+    }
+
+    // 한 판을 끝까지 진행하고 결과를 stats에 추가
+    public void play(long seed, BatchStats stats) {
+        GameEngine engine = new GameEngine(settings, seed);
+        SnakeController controller = controllers.get();
+        StepResult result = StepResult.MOVED;
+        while (engine.isRunning() && engine.getTickCount() < maxTicks) {
+            result = engine.step(controller.nextDirection(engine));
+        }
+        stats.add(engine.getScore(), engine.getLength(), engine.getTickCount(), result, engine.isRunning());
+    }
+
+    // 판 번호로 시드를 정함 (SplitMix64 섞기)
+    static long seedFor(long baseSeed, long game) {
+        return GameRandom.mix(baseSeed + (game + 1) * GameRandom.GAMMA);
+    }
+
+    // [from, to) 범위의 판을 돌리는 작업
+    private class Games extends RecursiveTask<BatchStats> {
+        private final int from;
+        private final int to;
+        private final long baseSeed;
+
+        Games(int from, int to, long baseSeed) {
+            this.from = from;
+            this.to = to;
+            this.baseSeed = baseSeed;
+        }
+
+        @Override
+        protected BatchStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                BatchStats stats = new BatchStats();
+                for (int i = from; i < to; i++) {
+                    play(seedFor(baseSeed, i), stats);
+                }
+                return stats;
+            }
+            int middle = (from + to) >>> 1;
+            Games left = new Games(from, middle, baseSeed);
+            left.fork();
+            BatchStats right = new Games(middle, to, baseSeed).compute();
+            return right.merge(left.join());
+        }
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        GameSettings settings = GameSettings.fromSystemProperties();
+        long maxTicks = Long.getLong("snake.maxTicks", 100_000L);
+        String bot = System.getProperty("snake.bot", "greedy");
+        BatchRunner runner = new BatchRunner(settings, Controllers.byName(bot), maxTicks);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            BatchStats stats = runner.run(pool, games, baseSeed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("정책 %s, 격자 %dx%d, 사과 %d개, 폭탄 %s, 스레드 %d, 기준 시드 %d%n",
+                    bot, settings.getColumns(), settings.getRows(), settings.getAppleCount(),
+                    settings.isBombEnabled() ? "사용" : "없음", threads, baseSeed);
+            System.out.println(stats.summary());
+            System.out.printf("%.2f초, 초당 %.0f판, 초당 %.0f틱%n",
+                    seconds, stats.getGames() / seconds, stats.getTotalTicks() / seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
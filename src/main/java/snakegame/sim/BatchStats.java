@@ -0,0 +1,136 @@
+package snakegame.sim;
+
+import snakegame.game.StepResult;
+
+import java.util.Arrays;
+
+/**
+ * 여러 판의 결과 집계 (점수, 길이 분포와 종료 사유별 횟수).
+ * 작업 스레드마다 따로 모은 뒤 merge()로 합치므로 동기화하지 않는다.
+ */
+public class BatchStats {
+    private long games = 0;
+    private long totalTicks = 0;
+    private long cutOff = 0;                   // 최대 틱 수에 걸려 중단된 판
+    private long[] scoreCounts = new long[64]; // 점수별 판 수
+    private long[] lengthCounts = new long[64]; // 최종 길이별 판 수
+    private final long[] resultCounts = new long[StepResult.values().length];
+
+    // 한 판의 결과 추가, result는 마지막 step() 결과
+    public void add(int score, int length, long ticks, StepResult result, boolean cut) {
+        games++;
+        totalTicks += ticks;
+        scoreCounts = increment(scoreCounts, score);
+        lengthCounts = increment(lengthCounts, length);
+        if (cut) {
+            cutOff++;
+        } else {
+            resultCounts[result.ordinal()]++;
+        }
+    }
+
+    public BatchStats merge(BatchStats other) {
+        games += other.games;
+        totalTicks += other.totalTicks;
+        cutOff += other.cutOff;
+        scoreCounts = mergeCounts(scoreCounts, other.scoreCounts);
+        lengthCounts = mergeCounts(lengthCounts, other.lengthCounts);
+        for (int i = 0; i < resultCounts.length; i++) {
+            resultCounts[i] += other.resultCounts[i];
+        }
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    public long getCutOff() {
+        return cutOff;
+    }
+
+    public long getResultCount(StepResult result) {
+        return resultCounts[result.ordinal()];
+    }
+
+    public double getMeanScore() {
+        return mean(scoreCounts);
+    }
+
+    public double getMeanLength() {
+        return mean(lengthCounts);
+    }
+
+    // 점수 백분위 (0~100)
+    public int getScorePercentile(double percentile) {
+        return percentile(scoreCounts, percentile);
+    }
+
+    public int getLengthPercentile(double percentile) {
+        return percentile(lengthCounts, percentile);
+    }
+
+    public int getMaxScore() {
+        return percentile(scoreCounts, 100);
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("게임 %d판, 총 %d틱%n", games, totalTicks));
+        sb.append(String.format("점수: 평균 %.2f, p50 %d, p90 %d, p99 %d, 최고 %d%n", getMeanScore(),
+                getScorePercentile(50), getScorePercentile(90), getScorePercentile(99), getMaxScore()));
+        sb.append(String.format("길이: 평균 %.2f, p50 %d, p90 %d, 최고 %d%n", getMeanLength(),
+                getLengthPercentile(50), getLengthPercentile(90), getLengthPercentile(100)));
+        sb.append("종료 사유:");
+        for (StepResult result : StepResult.values()) {
+            long count = resultCounts[result.ordinal()];
+            if (count > 0) {
+                sb.append(String.format(" %s %d (%.1f%%)", result, count, 100.0 * count / games));
+            }
+        }
+        if (cutOff > 0) {
+            sb.append(String.format(" 틱 제한 %d (%.1f%%)", cutOff, 100.0 * cutOff / games));
+        }
+        return sb.toString();
+    }
+
+    private static long[] increment(long[] counts, int value) {
+        if (value >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(counts.length * 2, value + 1));
+        }
+        counts[value]++;
+        return counts;
+    }
+
+    private static long[] mergeCounts(long[] a, long[] b) {
+        long[] merged = a.length >= b.length ? a : Arrays.copyOf(a, b.length);
+        for (int i = 0; i < b.length; i++) {
+            merged[i] += b[i];
+        }
+        return merged;
+    }
+
+    private double mean(long[] counts) {
+        if (games == 0) return 0;
+        double sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            sum += (double) i * counts[i];
+        }
+        return sum / games;
+    }
+
+    private int percentile(long[] counts, double percentile) {
+        if (games == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(games * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return i;
+        }
+        return counts.length - 1;
+    }
+}
@@ -0,0 +1,79 @@
+package snakegame.arena;
+
+import org.junit.jupiter.api.Test;
+import snakegame.bot.Controllers;
+import snakegame.bot.SnakeController;
+import snakegame.game.GameEngine;
+import snakegame.game.GameSettings;
+import snakegame.game.StepResult;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 아레나가 스레드 수와 상관없이 같은 결과를 내는지, 뱀 하나일 때 GameEngine과 같은지 확인.
+ */
+class ArenaEngineTest {
+    @Test
+    void pooledMatchesSequential() {
+        // 살아 있는 뱀이 PARALLEL_THRESHOLD(512)를 넘어야 실제로 나눠 처리함
+        GameSettings settings = new GameSettings().setGridSize(200).setGameTime(0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 3; seed++) {
+                ArenaEngine sequential = new ArenaEngine(settings, 1500, 1500, 150, seed);
+                ArenaEngine pooled = new ArenaEngine(settings, 1500, 1500, 150, seed);
+                pooled.setPool(pool);
+                for (int t = 0; t < 300 && sequential.getAliveCount() > 0; t++) {
+                    ArenaRunner.steer(sequential);
+                    ArenaRunner.steer(pooled);
+                    sequential.step();
+                    pooled.step();
+                    assertEquals(sequential.checksum(), pooled.checksum(), "시드 " + seed + ", 틱 " + t);
+                }
+                assertEquals(sequential.getAliveCount(), pooled.getAliveCount());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void singleSnakeMatchesGameEngine() {
+        for (int game = 0; game < 60; game++) {
+            GameSettings settings = new GameSettings()
+                    .setColumns(10 + game % 17)
+                    .setRows(6 + game % 11)
+                    .setAppleCount(1 + game % 4)
+                    .setBombEnabled(game % 2 == 0)
+                    .setGameTime(0);
+            GameEngine engine = new GameEngine(settings, game);
+            ArenaEngine arena = new ArenaEngine(settings, 1, settings.getAppleCount(),
+                    settings.isBombEnabled() ? 1 : 0, game);
+            SnakeController controller = Controllers.byName("astar").get();
+
+            while (engine.isRunning() && engine.getTickCount() < 3000) {
+                char direction = controller.nextDirection(engine);
+                StepResult result = engine.step(direction);
+                arena.setDirection(0, direction);
+                arena.step();
+                String where = "판 " + game + ", 틱 " + engine.getTickCount();
+                // 판을 다 채운 승리와 교착은 아레나에 없는 결과
+                if (result != StepResult.WON && result != StepResult.STALEMATE) {
+                    assertEquals(result, arena.getResult(0), where);
+                }
+                if (!result.isFatal()) {
+                    assertEquals(engine.getHeadCell(), arena.getHeadCell(0), where);
+                    assertEquals(engine.getScore(), arena.getScore(0), where);
+                    if (settings.isBombEnabled()) {
+                        assertEquals(engine.getBombCell(), arena.getBombCell(0), where);
+                    }
+                    for (int i = 0; i < engine.getAppleCellCount(); i++) {
+                        assertEquals(engine.getAppleCell(i), arena.getAppleCell(i), where);
+                    }
+                }
+            }
+        }
+    }
+}
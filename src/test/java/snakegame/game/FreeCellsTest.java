@@ -0,0 +1,68 @@
+package snakegame.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * FreeCells: 같은 빈 칸 집합이면 추가, 제거 순서와 상관없이 같은 칸을 고르는지.
+ */
+class FreeCellsTest {
+    @Test
+    void pickDependsOnlyOnContents() {
+        int total = 1000;
+        Random random = new Random(1);
+        FreeCells first = new FreeCells(total);
+        FreeCells second = new FreeCells(total);
+        boolean[] free = new boolean[total];
+        Arrays.fill(free, true);
+
+        for (int round = 0; round < 2000; round++) {
+            int cell = random.nextInt(total);
+            if (random.nextBoolean()) {
+                first.remove(cell);
+                free[cell] = false;
+            } else {
+                first.add(cell);
+                free[cell] = true;
+            }
+        }
+        // 두 번째는 결과 집합만 칸 번호 역순으로 만듦
+        for (int cell = total - 1; cell >= 0; cell--) {
+            if (!free[cell]) second.remove(cell);
+        }
+        assertEquals(second.size(), first.size());
+
+        GameRandom a = new GameRandom(7);
+        GameRandom b = new GameRandom(7);
+        for (int i = 0; i < 500; i++) {
+            int cell = first.pick(a);
+            assertEquals(cell, second.pick(b));
+            assertTrue(free[cell]);
+        }
+    }
+
+    @Test
+    void pickCoversEveryFreeCell() {
+        FreeCells cells = new FreeCells(130); // 마지막 워드가 일부만 쓰이는 크기
+        for (int cell = 0; cell < 130; cell += 3) {
+            cells.remove(cell);
+        }
+        boolean[] seen = new boolean[130];
+        GameRandom random = new GameRandom(3);
+        for (int i = 0; i < 20_000; i++) {
+            seen[cells.pick(random)] = true;
+        }
+        for (int cell = 0; cell < 130; cell++) {
+            assertEquals(cell % 3 != 0, seen[cell], "칸 " + cell);
+        }
+        for (int cell = 0; cell < 130; cell++) {
+            cells.remove(cell);
+        }
+        assertEquals(-1, cells.pick(random));
+    }
+}
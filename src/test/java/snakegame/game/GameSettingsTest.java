@@ -0,0 +1,64 @@
+package snakegame.game;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GameSettings 값 검사: setter는 자기 범위만, 값끼리는 validate()에서.
+ */
+class GameSettingsTest {
+    private static final String[] PROPERTIES = {"snake.columns", "snake.rows", "snake.appleCount", "snake.delay"};
+
+    @AfterEach
+    void clearProperties() {
+        for (String property : PROPERTIES) {
+            System.clearProperty(property);
+        }
+    }
+
+    @Test
+    void rejectsOutOfRangeValuesWithPropertyName() {
+        assertMessageNames("snake.delay", () -> new GameSettings().setDelay(0));
+        assertMessageNames("snake.columns", () -> new GameSettings().setColumns(0));
+        assertMessageNames("snake.rows", () -> new GameSettings().setRows(-1));
+        assertMessageNames("snake.viewColumns", () -> new GameSettings().setViewColumns(0));
+        assertMessageNames("snake.viewRows", () -> new GameSettings().setViewRows(0));
+        assertMessageNames("snake.appleCount", () -> new GameSettings().setAppleCount(-1));
+    }
+
+    @Test
+    void rejectsTooManyCells() {
+        assertMessageNames("snake.rows", () -> new GameSettings().setColumns(50_000).setRows(50_000));
+    }
+
+    @Test
+    void crossCheckDoesNotDependOnOrder() {
+        // 기본 사과 3개가 남은 상태로 3x1 판이 되어도 setter는 통과, 다 채운 뒤 검사
+        System.setProperty("snake.columns", "3");
+        System.setProperty("snake.rows", "1");
+        System.setProperty("snake.appleCount", "0");
+        GameSettings settings = GameSettings.fromSystemProperties();
+        assertEquals(3, settings.getColumns());
+        assertEquals(1, settings.getRows());
+
+        new GameSettings().setGridSize(3).setRows(1).setAppleCount(0).validate();
+    }
+
+    @Test
+    void rejectsMoreApplesThanFreeCells() {
+        System.setProperty("snake.appleCount", "1000");
+        assertMessageNames("snake.appleCount", GameSettings::fromSystemProperties);
+
+        GameSettings settings = new GameSettings().setGridSize(3).setAppleCount(7);
+        assertMessageNames("snake.appleCount", () -> new GameEngine(settings, 1));
+    }
+
+    private static void assertMessageNames(String property, Runnable action) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, action::run);
+        assertTrue(e.getMessage().startsWith(property), e.getMessage());
+    }
+}
@@ -0,0 +1,254 @@
+package snakegame.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import snakegame.bot.Controllers;
+import snakegame.bot.SnakeController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * GameEngine.save/restore와 저장 파일 왕복, 잘못된 스냅숏 거부 확인.
+ */
+class GameSnapshotTest {
+    @TempDir
+    Path directory;
+
+    // 비교용 엔진 상태 문자열 (판 전체 포함)
+    private static String state(GameEngine engine) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(engine.getTickCount()).append('/').append(engine.getScore()).append('/')
+                .append(engine.getDirection()).append('/').append(engine.isRunning()).append('/')
+                .append(engine.getBombCell()).append(':');
+        for (int i = 0; i < engine.getLength(); i++) {
+            sb.append(engine.getSnakeCell(i)).append(',');
+        }
+        sb.append('|');
+        for (int i = 0; i < engine.getAppleCellCount(); i++) {
+            sb.append(engine.getAppleCell(i)).append(',');
+        }
+        sb.append('|');
+        for (int cell = 0; cell < engine.getColumns() * engine.getRows(); cell++) {
+            sb.append(engine.getCell(cell));
+        }
+        return sb.append('|').append(engine.getFreeCellCount()).toString();
+    }
+
+    @Test
+    void restoreRoundTrip() throws IOException {
+        Path file = directory.resolve("save.snkg");
+        for (int game = 0; game < 40; game++) {
+            GameSettings settings = new GameSettings()
+                    .setColumns(8 + game % 30)
+                    .setRows(6 + game % 21)
+                    .setAppleCount(1 + game % 5)
+                    .setBombEnabled(game % 2 == 0)
+                    .setGameTime(game % 3 == 0 ? 0 : 60);
+            GameEngine engine = new GameEngine(settings, game);
+            SnakeController controller = Controllers.byName(game % 2 == 0 ? "hamiltonian" : "astar").get();
+            GameSnapshot snapshot = new GameSnapshot();
+
+            while (engine.isRunning() && engine.getTickCount() < 2000) {
+                if (engine.getTickCount() % 37 == 5) {
+                    engine.save(snapshot);
+                    String saved = state(engine);
+
+                    // 몇 틱 진행한 뒤 되돌리면 저장한 상태와 같음
+                    for (int k = 0; k < 10 && engine.isRunning(); k++) {
+                        engine.step(controller.nextDirection(engine));
+                    }
+                    engine.restore(snapshot.copy());
+                    assertEquals(saved, state(engine), "판 " + game);
+
+                    // 같은 스냅숏에서 두 번 복원하면 이후 진행도 같음
+                    String first = future(engine, controller);
+                    engine.restore(snapshot);
+                    assertEquals(first, future(engine, controller), "판 " + game);
+
+                    // 파일 왕복
+                    engine.restore(snapshot);
+                    snapshot.write(file);
+                    engine.restore(GameSnapshot.read(file));
+                    assertEquals(saved, state(engine), "판 " + game);
+                }
+                engine.step(controller.nextDirection(engine));
+            }
+        }
+    }
+
+    @Test
+    void restoredGameSpawnsLikeOriginal() {
+        for (int game = 0; game < 40; game++) {
+            GameSettings settings = new GameSettings()
+                    .setColumns(8 + game % 13)
+                    .setRows(8 + game % 7)
+                    .setAppleCount(1 + game % 4)
+                    .setBombEnabled(game % 2 == 0)
+                    .setGameTime(0);
+            GameEngine engine = new GameEngine(settings, game * 31L);
+            SnakeController controller = Controllers.byName("astar").get();
+            for (int k = 0; k < 30 + game && engine.isRunning(); k++) {
+                engine.step(controller.nextDirection(engine));
+            }
+            GameSnapshot snapshot = new GameSnapshot();
+            engine.save(snapshot);
+
+            // 저장 뒤 원래 진행 (입력도 기록)
+            StringBuilder inputs = new StringBuilder();
+            StringBuilder original = new StringBuilder();
+            for (int k = 0; k < 200 && engine.isRunning(); k++) {
+                char direction = controller.nextDirection(engine);
+                inputs.append(direction);
+                engine.step(direction);
+                original.append(state(engine)).append('\n');
+            }
+
+            // 복원한 뒤 같은 입력으로 진행하면 사과, 폭탄까지 같은 자리에 나옴
+            engine.restore(snapshot);
+            StringBuilder replayed = new StringBuilder();
+            for (int k = 0; k < inputs.length(); k++) {
+                engine.step(inputs.charAt(k));
+                replayed.append(state(engine)).append('\n');
+            }
+            assertEquals(original.toString(), replayed.toString(), "판 " + game);
+        }
+    }
+
+    private static String future(GameEngine engine, SnakeController controller) {
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < 20 && engine.isRunning(); k++) {
+            engine.step(controller.nextDirection(engine));
+            sb.append(state(engine));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void rejectsSnapshotOfDifferentBoard() {
+        GameSnapshot snapshot = new GameSnapshot();
+        new GameEngine(new GameSettings().setGridSize(10), 1).save(snapshot);
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        assertRejected(engine, snapshot);
+    }
+
+    @Test
+    void rejectsTruncatedSnapshot() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        GameSnapshot snapshot = snapshot(engine, new int[] {0, 1, 2}, new int[] {50}, -1);
+        GameSnapshot truncated = new GameSnapshot();
+        snapshot.rewind();
+        for (int i = 0; i < 100; i++) {
+            truncated.put(snapshot.get(1), 1);
+        }
+        assertRejected(engine, truncated);
+    }
+
+    @Test
+    void rejectsSelfCrossingBody() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        // 오른쪽, 아래, 왼쪽, 위로 돌아 처음 칸과 겹침
+        int[] body = {16, 17, 32, 31, 16};
+        assertRejected(engine, snapshot(engine, body, new int[] {100}, -1));
+    }
+
+    @Test
+    void rejectsBodyWrappingAcrossColumnEdge() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        // 14번 칸(첫 행 끝)에서 오른쪽은 15번 칸(다음 행 처음)이지만 판 밖으로 나가는 이동
+        assertRejected(engine, snapshot(engine, new int[] {13, 14, 15}, new int[] {100}, -1));
+    }
+
+    @Test
+    void rejectsBodyLeavingBoard() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        assertRejected(engine, snapshot(engine, new int[] {1, 0, -15}, new int[] {100}, -1));
+    }
+
+    @Test
+    void rejectsAppleOnSnake() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        assertRejected(engine, snapshot(engine, new int[] {0, 1, 2}, new int[] {1}, -1));
+    }
+
+    @Test
+    void rejectsDuplicateApples() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        assertRejected(engine, snapshot(engine, new int[] {0, 1, 2}, new int[] {50, 50}, -1));
+    }
+
+    @Test
+    void rejectsBombOnApple() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        assertRejected(engine, snapshot(engine, new int[] {0, 1, 2}, new int[] {50}, 50));
+    }
+
+    @Test
+    void acceptsHandWrittenSnapshot() {
+        GameEngine engine = new GameEngine(new GameSettings(), 1);
+        engine.restore(snapshot(engine, new int[] {16, 17, 32, 31}, new int[] {100, 101}, 102));
+        assertEquals(4, engine.getLength());
+        assertEquals(31, engine.getHeadCell());
+        assertEquals(102, engine.getBombCell());
+        assertEquals(15 * 15 - 4 - 2 - 1, engine.getFreeCellCount());
+    }
+
+    @Test
+    void rejectsFileWithWrongMagic() throws IOException {
+        Path file = directory.resolve("bad.snkg");
+        Files.write(file, new byte[] {'N', 'O', 'P', 'E', 2, 0, 0, 0, 0});
+        assertThrows(IOException.class, () -> GameSnapshot.read(file));
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        GameSnapshot snapshot = new GameSnapshot();
+        new GameEngine(new GameSettings(), 1).save(snapshot);
+        Path file = directory.resolve("cut.snkg");
+        snapshot.write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> GameSnapshot.read(file));
+    }
+
+    // 잘못된 스냅숏은 예외를 던지고 엔진 상태는 그대로
+    private static void assertRejected(GameEngine engine, GameSnapshot snapshot) {
+        String before = state(engine);
+        assertThrows(IllegalArgumentException.class, () -> engine.restore(snapshot));
+        assertEquals(before, state(engine));
+    }
+
+    /**
+     * GameEngine.save()와 같은 형식으로 스냅숏을 직접 만듦. body는 꼬리부터 머리까지의 칸,
+     * 이웃하지 않는 칸 사이는 열 번호 차이로 방향을 정해 그대로 씀 (가장자리를 넘는 몸통을 만들 때).
+     */
+    private static GameSnapshot snapshot(GameEngine engine, int[] body, int[] apples, int bomb) {
+        int columns = engine.getColumns();
+        int cellBits = 32 - Integer.numberOfLeadingZeros(columns * engine.getRows());
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.put(columns, 16);
+        snapshot.put(engine.getRows(), 16);
+        snapshot.put(12345, 64);
+        snapshot.put(7, 64);
+        snapshot.put(0, 32);
+        snapshot.put(3, 2); // 'R'
+        snapshot.put(1, 1);
+        snapshot.put(body.length, cellBits);
+        snapshot.put(body[0], cellBits);
+        for (int i = 1; i < body.length; i++) {
+            int diff = body[i] - body[i - 1];
+            snapshot.put(diff == -columns ? 0 : diff == columns ? 1 : diff == -1 ? 2 : 3, 2);
+        }
+        snapshot.put(apples.length, cellBits);
+        for (int apple : apples) {
+            snapshot.put(apple, cellBits);
+        }
+        snapshot.put(bomb + 1, cellBits);
+        return snapshot;
+    }
+}
@@ -0,0 +1,65 @@
+package snakegame.net;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import snakegame.bot.Controllers;
+import snakegame.game.GameSettings;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 같은 프로세스에 서버를 띄우고 루프백 클라이언트와 관전자를 붙여 봄.
+ * 클라이언트는 시드로 같은 판을 직접 돌려 서버가 보낸 틱과 맞춰 보고, 관전자는 상태 프레임을 풀어 본다.
+ */
+class LoopbackTest {
+    private static final int CLIENTS = 32;
+    private static final int SPECTATORS = 4;
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void clientsMirrorServer() throws Exception {
+        GameSettings settings = new GameSettings()
+                .setGridSize(20)
+                .setAppleCount(200) // 1바이트를 넘는 사과 개수도 환영 메시지로 전달되는지
+                .setDelay(10)
+                .setGameTime(2);
+        GameServer server = new GameServer(settings, 2);
+        try {
+            int port = server.start(0);
+            int spectatorPort = server.startSpectating(0);
+            GameClient client = new GameClient(new InetSocketAddress("127.0.0.1", port),
+                    Controllers.byName("hamiltonian"));
+
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                threads.add(Thread.ofVirtual().start(client::play));
+            }
+            // 관전자는 판이 열린 뒤에 붙임
+            while (server.getTotalSessions() < CLIENTS) {
+                Thread.sleep(10);
+            }
+            InetSocketAddress spectatorAddress = new InetSocketAddress("127.0.0.1", spectatorPort);
+            for (int i = 0; i < SPECTATORS; i++) {
+                threads.add(Thread.ofVirtual().start(() -> client.spectate(spectatorAddress)));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(0, client.getFailedGames());
+            assertEquals(0, client.getMismatches());
+            assertEquals(CLIENTS, client.getFinishedGames());
+            assertTrue(client.getTicks() > 0);
+            assertEquals(SPECTATORS, client.getSpectatedGames());
+            assertTrue(client.getSpectatorFrames() > 0);
+        } finally {
+            server.stop();
+        }
+    }
+}
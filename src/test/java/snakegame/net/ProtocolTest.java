@@ -0,0 +1,51 @@
+package snakegame.net;
+
+import org.junit.jupiter.api.Test;
+import snakegame.game.GameSettings;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 환영 메시지 왕복.
+ */
+class ProtocolTest {
+    @Test
+    void welcomeRoundTrip() throws IOException {
+        GameSettings settings = new GameSettings()
+                .setColumns(40)
+                .setRows(30)
+                .setAppleCount(300) // 1바이트를 넘는 사과 개수
+                .setBombEnabled(false)
+                .setDelay(250)
+                .setGameTime(600);
+        ByteBuffer buffer = ByteBuffer.allocate(Protocol.WELCOME_SIZE);
+        Protocol.putWelcome(buffer, 7, 123456789L, settings);
+        assertFalse(buffer.hasRemaining(), "WELCOME_SIZE와 실제 크기가 다름");
+        buffer.flip();
+
+        assertEquals(Protocol.WELCOME, buffer.get());
+        assertEquals(7, buffer.getInt());
+        assertEquals(123456789L, buffer.getLong());
+        GameSettings read = Protocol.readSettings(buffer);
+        assertEquals(40, read.getColumns());
+        assertEquals(30, read.getRows());
+        assertEquals(300, read.getAppleCount());
+        assertFalse(read.isBombEnabled());
+        assertEquals(250, read.getDelay());
+        assertEquals(600, read.getGameTime());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        ByteBuffer buffer = ByteBuffer.allocate(Protocol.WELCOME_SIZE);
+        Protocol.putWelcome(buffer, 1, 1L, new GameSettings());
+        buffer.putInt(1 + 4 + 8 + 2 + 2, 1_000); // 15x15 판에 사과 1000개
+        buffer.position(1 + 4 + 8);
+        assertThrows(IOException.class, () -> Protocol.readSettings(buffer));
+    }
+}
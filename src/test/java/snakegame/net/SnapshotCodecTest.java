@@ -0,0 +1,100 @@
+package snakegame.net;
+
+import org.junit.jupiter.api.Test;
+import snakegame.bot.Controllers;
+import snakegame.bot.SnakeController;
+import snakegame.game.GameEngine;
+import snakegame.game.GameSettings;
+import snakegame.game.StepResult;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SnapshotEncoder가 만든 프레임을 SnapshotDecoder에 적용하면 엔진 상태를 그대로 따라가는지 확인.
+ */
+class SnapshotCodecTest {
+    @Test
+    void decoderMirrorsEngine() {
+        for (int game = 0; game < 60; game++) {
+            GameSettings settings = new GameSettings()
+                    .setColumns(10 + game % 20)
+                    .setRows(8 + game % 13)
+                    .setAppleCount(1 + game % 5)
+                    .setBombEnabled(game % 2 == 0)
+                    .setGameTime(0);
+            GameEngine engine = new GameEngine(settings, game * 7919L);
+            SnakeController controller = Controllers.byName(game % 3 == 0 ? "hamiltonian" : "astar").get();
+            SnapshotEncoder encoder = new SnapshotEncoder(game % 4 == 0 ? 1 : 64);
+            SnapshotDecoder decoder = new SnapshotDecoder(settings);
+            ByteBuffer frame = ByteBuffer.allocate(1 << 16);
+            Random skip = new Random(game);
+
+            for (int tick = 0; tick < 2000; tick++) {
+                StepResult result = engine.step(controller.nextDirection(engine));
+                // 가끔 틱을 건너뛰거나(다음은 키프레임) 키프레임을 요청
+                if (skip.nextInt(50) == 0 && !result.isFatal()) continue;
+                if (skip.nextInt(80) == 0) encoder.requestKeyframe();
+
+                frame.clear();
+                encoder.encode(engine, result, frame);
+                frame.flip();
+                assertTrue(decoder.apply(frame));
+                assertFalse(frame.hasRemaining(), "프레임을 다 읽지 않음");
+                assertMirrors(engine, decoder, settings, "판 " + game + ", 틱 " + tick);
+                if (result.isFatal()) {
+                    assertEquals(result, decoder.getEndResult());
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void skipsDeltaBeforeFirstKeyframe() {
+        GameSettings settings = new GameSettings();
+        GameEngine engine = new GameEngine(settings, 1);
+        SnapshotEncoder encoder = new SnapshotEncoder(64);
+        ByteBuffer frame = ByteBuffer.allocate(4096);
+        encoder.encode(engine, engine.step('R'), frame); // 키프레임 (버림)
+        frame.clear();
+        encoder.encode(engine, engine.step('R'), frame);
+        frame.flip();
+
+        SnapshotDecoder decoder = new SnapshotDecoder(settings);
+        assertFalse(decoder.apply(frame));
+        assertFalse(decoder.isSynced());
+    }
+
+    @Test
+    void rejectsUnknownFrameType() {
+        ByteBuffer frame = ByteBuffer.wrap(new byte[] {'X', 0});
+        assertThrows(IllegalStateException.class, () -> new SnapshotDecoder(new GameSettings()).apply(frame));
+    }
+
+    @Test
+    void rejectsUnknownResultCode() {
+        ByteBuffer frame = ByteBuffer.wrap(new byte[] {SnapshotFormat.KEYFRAME, SnapshotFormat.FLAG_END, (byte) 200});
+        assertThrows(IllegalStateException.class, () -> new SnapshotDecoder(new GameSettings()).apply(frame));
+    }
+
+    private static void assertMirrors(GameEngine engine, SnapshotDecoder decoder, GameSettings settings, String where) {
+        assertEquals(engine.getLength(), decoder.getLength(), where);
+        assertEquals(engine.getScore(), decoder.getScore(), where);
+        assertEquals(engine.getTickCount(), decoder.getTickCount(), where);
+        assertEquals(engine.getBombCell(), decoder.getBombCell(), where);
+        assertEquals(engine.getDirection(), decoder.getDirection(), where);
+        assertEquals(engine.getAppleCellCount(), decoder.getAppleCellCount(), where);
+        for (int i = 0; i < engine.getLength(); i++) {
+            assertEquals(engine.getSnakeCell(i), decoder.getSnakeCell(i), where);
+        }
+        for (int cell = 0; cell < settings.getColumns() * settings.getRows(); cell++) {
+            assertEquals(engine.getCell(cell), decoder.getCell(cell), where);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package snakegame.sim;
+
+import org.junit.jupiter.api.Test;
+import snakegame.game.GameEngine;
+import snakegame.game.GameRandom;
+import snakegame.game.GameSettings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * BatchEngine이 같은 시드와 입력에서 GameEngine과 한 틱씩 똑같이 진행하는지 확인.
+ */
+class BatchEngineTest {
+    private static final int GAMES = 500;
+    private static final int MAX_STEPS = 3000;
+
+    @Test
+    void matchesGameEngineStepByStep() {
+        int[] sizes = {4, 8, 15, 16, 31, 5};
+        for (int config = 0; config < sizes.length; config++) {
+            GameSettings settings = new GameSettings()
+                    .setGridSize(sizes[config])
+                    .setAppleCount(config % 6)
+                    .setBombEnabled(config % 2 == 0)
+                    .setGameTime(config == 3 ? 0 : 30);
+            runLockStep(settings, config);
+        }
+    }
+
+    private static void runLockStep(GameSettings settings, int config) {
+        long[] seeds = new long[GAMES];
+        GameEngine[] engines = new GameEngine[GAMES];
+        for (int i = 0; i < GAMES; i++) {
+            seeds[i] = i * 7919L + config;
+            engines[i] = new GameEngine(settings, seeds[i]);
+        }
+        BatchEngine batch = new BatchEngine(settings, seeds);
+        GameRandom inputs = new GameRandom(99 + config);
+        char[] directions = new char[GAMES];
+
+        for (int step = 0; step < MAX_STEPS && batch.getRunningCount() > 0; step++) {
+            for (int i = 0; i < GAMES; i++) {
+                // 대부분은 방향 유지, 가끔 무작위로 꺾음 (반대 방향 입력도 섞임)
+                char direction = inputs.nextInt(3) == 0
+                        ? "UDLR".charAt(inputs.nextInt(4))
+                        : engines[i].getDirection();
+                directions[i] = direction;
+                if (engines[i].isRunning()) {
+                    engines[i].step(direction);
+                }
+            }
+            batch.step(directions);
+
+            for (int i = 0; i < GAMES; i++) {
+                String where = "설정 " + config + ", 판 " + i + ", 틱 " + step;
+                GameEngine engine = engines[i];
+                assertEquals(engine.isRunning(), batch.isRunning(i), where);
+                assertEquals(engine.getScore(), batch.getScore(i), where);
+                assertEquals(engine.getLength(), batch.getLength(i), where);
+                assertEquals(engine.getHeadCell(), batch.getHeadCell(i), where);
+                assertEquals(engine.getBombCell(), batch.getBombCell(i), where);
+                assertEquals(engine.getTickCount(), batch.getTickCount(i), where);
+                assertEquals(engine.getAppleCellCount(), batch.getAppleCellCount(i), where);
+            }
+        }
+    }
+}